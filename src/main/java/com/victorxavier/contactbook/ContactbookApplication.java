@@ -4,12 +4,16 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaRepositories
 @EnableFeignClients
+@EnableScheduling
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @OpenAPIDefinition( info =
 @Info(title = "Contact Book", description = "API responsible for managing contacts", version = "1"))
 public class ContactbookApplication {
@@ -0,0 +1,32 @@
+package com.victorxavier.contactbook.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Contacts to create in one batch. Items are validated one by one, so an invalid item
+ * is reported in the response instead of rejecting the whole batch.
+ */
+@Schema(description = "Request payload for creating several contacts at once")
+public class ContactBatchCreateRequest extends BaseRequest {
+
+    @NotEmpty(message = "A lista de contatos não pode ser vazia")
+    @Schema(description = "Contacts to create.", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<ContactRequest> items;
+
+    public ContactBatchCreateRequest() {}
+
+    public ContactBatchCreateRequest(List<ContactRequest> items) {
+        this.items = items;
+    }
+
+    public List<ContactRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ContactRequest> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,23 @@
+package com.victorxavier.contactbook.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+@Schema(description = "Request payload for deleting several contacts at once")
+public class ContactBatchDeleteRequest extends BaseRequest {
+
+    @NotEmpty(message = "A lista de IDs não pode ser vazia")
+    @Schema(description = "IDs of the contacts to delete.", example = "[1, 2, 3]",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Long> ids;
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
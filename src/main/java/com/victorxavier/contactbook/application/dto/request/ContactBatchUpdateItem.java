@@ -0,0 +1,20 @@
+package com.victorxavier.contactbook.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Changes to one contact of a batch update")
+public class ContactBatchUpdateItem extends ContactUpdateRequest {
+
+    @NotNull(message = "ID do contato não pode ser nulo")
+    @Schema(description = "ID of the contact to update.", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Long id;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
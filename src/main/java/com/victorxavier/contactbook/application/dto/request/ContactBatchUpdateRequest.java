@@ -0,0 +1,25 @@
+package com.victorxavier.contactbook.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Contacts to update in one batch. Only the fields present in an item are changed.
+ */
+@Schema(description = "Request payload for updating several contacts at once")
+public class ContactBatchUpdateRequest extends BaseRequest {
+
+    @NotEmpty(message = "A lista de contatos não pode ser vazia")
+    @Schema(description = "Contacts to update.", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<ContactBatchUpdateItem> items;
+
+    public List<ContactBatchUpdateItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ContactBatchUpdateItem> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,30 @@
+package com.victorxavier.contactbook.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+@Schema(description = "Request payload for fetching several contacts by ID")
+public class ContactLookupRequest extends BaseRequest {
+
+    @NotEmpty(message = "A lista de IDs não pode ser vazia")
+    @Schema(description = "IDs of the contacts to fetch.", example = "[1, 2, 3]",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<@NotNull(message = "ID do contato não pode ser nulo") Long> ids;
+
+    public ContactLookupRequest() {}
+
+    public ContactLookupRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -37,6 +37,10 @@ public abstract class BaseContactResponse extends BaseResponse {
     @Schema(description = "Complete formatted address.", example = "Praça da Sé, 123 - Sé, São Paulo - SP")
     private String enderecoCompleto;
 
+    @Schema(description = "Address resolution status: RESOLVED, PENDING (being resolved in the background) or NOT_FOUND.",
+            example = "RESOLVED")
+    private String addressStatus;
+
     public BaseContactResponse() {}
     
     public BaseContactResponse(Long id, String name, String phone, String cep,
@@ -107,4 +111,7 @@ public abstract class BaseContactResponse extends BaseResponse {
     public void setEnderecoCompleto(String enderecoCompleto) {
         this.enderecoCompleto = enderecoCompleto;
     }
+
+    public String getAddressStatus() { return addressStatus; }
+    public void setAddressStatus(String addressStatus) { this.addressStatus = addressStatus; }
 }
\ No newline at end of file
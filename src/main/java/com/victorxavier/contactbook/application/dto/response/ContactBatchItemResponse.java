@@ -0,0 +1,76 @@
+package com.victorxavier.contactbook.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.victorxavier.contactbook.infrastructure.exception.FieldMessage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a batch request
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ContactBatchItemResponse extends BaseResponse {
+
+    public enum Status { CREATED, UPDATED, DELETED, INVALID, NOT_FOUND, CONFLICT, ADDRESS_NOT_FOUND, FAILED }
+
+    @Schema(description = "Position of the item in the request, starting at 0.", example = "0")
+    private int index;
+
+    @Schema(description = "ID of the contact, when known.", example = "1")
+    private Long id;
+
+    @Schema(description = "What happened to the item.", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "The contact as stored, for created and updated items.")
+    private ContactResponse contact;
+
+    @Schema(description = "Why the item was not applied.")
+    private List<FieldMessage> errors;
+
+    public ContactBatchItemResponse() {}
+
+    public ContactBatchItemResponse(int index, Long id, Status status) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+    }
+
+    public static ContactBatchItemResponse applied(int index, Status status, ContactResponse contact) {
+        ContactBatchItemResponse item = new ContactBatchItemResponse(index, contact.getId(), status);
+        item.setContact(contact);
+        return item;
+    }
+
+    public static ContactBatchItemResponse rejected(int index, Long id, Status status, List<FieldMessage> errors) {
+        ContactBatchItemResponse item = new ContactBatchItemResponse(index, id, status);
+        item.setErrors(errors);
+        return item;
+    }
+
+    public static ContactBatchItemResponse rejected(int index, Long id, Status status, String fieldName, String message) {
+        return rejected(index, id, status, List.of(new FieldMessage(fieldName, message)));
+    }
+
+    @JsonIgnore
+    public boolean isSucceeded() {
+        return status == Status.CREATED || status == Status.UPDATED || status == Status.DELETED;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public ContactResponse getContact() { return contact; }
+    public void setContact(ContactResponse contact) { this.contact = contact; }
+
+    public List<FieldMessage> getErrors() { return errors; }
+    public void setErrors(List<FieldMessage> errors) { this.errors = errors; }
+}
@@ -0,0 +1,44 @@
+package com.victorxavier.contactbook.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Per-item outcome of a batch request, in request order
+ */
+public class ContactBatchResponse extends BaseResponse {
+
+    @Schema(description = "Items in the request.", example = "3")
+    private int total;
+
+    @Schema(description = "Items applied.", example = "2")
+    private int succeeded;
+
+    @Schema(description = "Items rejected.", example = "1")
+    private int failed;
+
+    @Schema(description = "Outcome of each item.")
+    private List<ContactBatchItemResponse> items;
+
+    public ContactBatchResponse() {}
+
+    public ContactBatchResponse(List<ContactBatchItemResponse> items) {
+        this.items = items;
+        this.total = items.size();
+        this.succeeded = (int) items.stream().filter(ContactBatchItemResponse::isSucceeded).count();
+        this.failed = total - succeeded;
+    }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public List<ContactBatchItemResponse> getItems() { return items; }
+    public void setItems(List<ContactBatchItemResponse> items) { this.items = items; }
+}
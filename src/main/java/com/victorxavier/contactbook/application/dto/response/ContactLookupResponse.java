@@ -0,0 +1,30 @@
+package com.victorxavier.contactbook.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Contacts found by a lookup, in the order their IDs were requested, and the IDs that were not found
+ */
+public class ContactLookupResponse extends BaseResponse {
+
+    @Schema(description = "Contacts found, in request order. Repeated IDs are returned once.")
+    private List<ContactResponse> contacts;
+
+    @Schema(description = "Requested IDs with no contact, in request order.", example = "[4, 9]")
+    private List<Long> missingIds;
+
+    public ContactLookupResponse() {}
+
+    public ContactLookupResponse(List<ContactResponse> contacts, List<Long> missingIds) {
+        this.contacts = contacts;
+        this.missingIds = missingIds;
+    }
+
+    public List<ContactResponse> getContacts() { return contacts; }
+    public void setContacts(List<ContactResponse> contacts) { this.contacts = contacts; }
+
+    public List<Long> getMissingIds() { return missingIds; }
+    public void setMissingIds(List<Long> missingIds) { this.missingIds = missingIds; }
+}
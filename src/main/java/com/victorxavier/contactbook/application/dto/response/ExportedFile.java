@@ -1,22 +1,37 @@
 package com.victorxavier.contactbook.application.dto.response;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
- * Represents an exported file with its content and metadata
+ * Represents an exported file with its metadata and a writer that renders its content on demand,
+ * so the file can be streamed to the client instead of being built in memory first.
+ * The entity tag identifies the data version the content was rendered from.
  */
 public class ExportedFile extends BaseResponse {
 
-    private final byte[] data;
+    /**
+     * Writes the content of the file to the given output
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream output) throws IOException;
+    }
+
+    private final ContentWriter content;
     private final String filename;
     private final String contentType;
+    private final String etag;
 
-    public ExportedFile(byte[] data, String filename, String contentType) {
-        this.data = data;
+    public ExportedFile(ContentWriter content, String filename, String contentType, String etag) {
+        this.content = content;
         this.filename = filename;
         this.contentType = contentType;
+        this.etag = etag;
     }
 
-    public byte[] getData() {
-        return data;
+    public void writeTo(OutputStream output) throws IOException {
+        content.writeTo(output);
     }
 
     public String getFilename() {
@@ -26,4 +41,8 @@ public class ExportedFile extends BaseResponse {
     public String getContentType() {
         return contentType;
     }
-}
\ No newline at end of file
+
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,97 @@
+package com.victorxavier.contactbook.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * State of an asynchronous CSV import job
+ */
+public class ImportJobResponse extends BaseResponse {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    @Schema(description = "Identifier used to poll the job.", example = "5f1c2a9e-7d3b-4a8e-9c51-0b6f1e2d3c4a")
+    private String jobId;
+
+    @Schema(description = "Job status.", example = "RUNNING")
+    private Status status;
+
+    @Schema(description = "Name of the uploaded file.", example = "contacts.csv")
+    private String fileName;
+
+    @Schema(description = "Data rows parsed so far.", example = "42000")
+    private long rowsParsed;
+
+    @Schema(description = "Rows whose address lookup has finished.", example = "41000")
+    private long rowsEnriched;
+
+    @Schema(description = "Contacts committed to the database.", example = "40000")
+    private long rowsPersisted;
+
+    @Schema(description = "Rows skipped because they were blank or malformed.", example = "12")
+    private long rowsFailed;
+
+    @Schema(description = "Rows skipped as duplicates of existing contacts or of earlier rows.", example = "300")
+    private long rowsDuplicate;
+
+    @Schema(description = "Contacts persisted per second since the job started.", example = "850.5")
+    private double rowsPerSecond;
+
+    @Schema(description = "When the file was accepted.")
+    private Instant submittedAt;
+
+    @Schema(description = "When a worker started the import.")
+    private Instant startedAt;
+
+    @Schema(description = "When the import finished, successfully or not.")
+    private Instant finishedAt;
+
+    @Schema(description = "Failure reason, when status is FAILED.")
+    private String error;
+
+    @Schema(description = "Final summary, when status is COMPLETED.")
+    private ImportSummaryResponse result;
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public long getRowsParsed() { return rowsParsed; }
+    public void setRowsParsed(long rowsParsed) { this.rowsParsed = rowsParsed; }
+
+    public long getRowsEnriched() { return rowsEnriched; }
+    public void setRowsEnriched(long rowsEnriched) { this.rowsEnriched = rowsEnriched; }
+
+    public long getRowsPersisted() { return rowsPersisted; }
+    public void setRowsPersisted(long rowsPersisted) { this.rowsPersisted = rowsPersisted; }
+
+    public long getRowsFailed() { return rowsFailed; }
+    public void setRowsFailed(long rowsFailed) { this.rowsFailed = rowsFailed; }
+
+    public long getRowsDuplicate() { return rowsDuplicate; }
+    public void setRowsDuplicate(long rowsDuplicate) { this.rowsDuplicate = rowsDuplicate; }
+
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+
+    public Instant getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(Instant submittedAt) { this.submittedAt = submittedAt; }
+
+    public Instant getStartedAt() { return startedAt; }
+    public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public ImportSummaryResponse getResult() { return result; }
+    public void setResult(ImportSummaryResponse result) { this.result = result; }
+}
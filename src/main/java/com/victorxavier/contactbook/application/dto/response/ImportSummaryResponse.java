@@ -0,0 +1,86 @@
+package com.victorxavier.contactbook.application.dto.response;
+
+import com.victorxavier.contactbook.application.port.in.ImportProgress;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Outcome of a CSV import. Contacts are not echoed back, only counts.
+ */
+public class ImportSummaryResponse extends BaseResponse {
+
+    @Schema(description = "Name of the imported file.", example = "contacts.csv")
+    private String fileName;
+
+    @Schema(description = "Data rows read from the file, excluding the header.", example = "1000")
+    private long rowsRead;
+
+    @Schema(description = "Rows skipped because they were blank or malformed.", example = "3")
+    private long rowsSkipped;
+
+    @Schema(description = "Rows skipped because their phone already belongs to a contact or appeared earlier in the file.",
+            example = "40")
+    private long duplicatesSkipped;
+
+    @Schema(description = "Contacts saved.", example = "997")
+    private long imported;
+
+    @Schema(description = "Saved contacts that replaced an existing contact with the same phone.", example = "0")
+    private long updated;
+
+    @Schema(description = "Contacts saved with an address still being resolved.", example = "12")
+    private long addressPending;
+
+    @Schema(description = "Contacts saved whose CEP does not exist.", example = "5")
+    private long addressNotFound;
+
+    @Schema(description = "Chunks committed, each in its own transaction.", example = "1")
+    private long chunks;
+
+    @Schema(description = "Time taken by the import, in milliseconds.", example = "5321")
+    private long durationMs;
+
+    public ImportSummaryResponse() {}
+
+    public ImportSummaryResponse(String fileName, ImportProgress progress, long durationMs) {
+        this.fileName = fileName;
+        this.rowsRead = progress.getRowsRead();
+        this.rowsSkipped = progress.getRowsSkipped();
+        this.duplicatesSkipped = progress.getDuplicatesSkipped();
+        this.imported = progress.getImported();
+        this.updated = progress.getUpdated();
+        this.addressPending = progress.getAddressPending();
+        this.addressNotFound = progress.getAddressNotFound();
+        this.chunks = progress.getChunks();
+        this.durationMs = durationMs;
+    }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public long getRowsRead() { return rowsRead; }
+    public void setRowsRead(long rowsRead) { this.rowsRead = rowsRead; }
+
+    public long getRowsSkipped() { return rowsSkipped; }
+    public void setRowsSkipped(long rowsSkipped) { this.rowsSkipped = rowsSkipped; }
+
+    public long getDuplicatesSkipped() { return duplicatesSkipped; }
+    public void setDuplicatesSkipped(long duplicatesSkipped) { this.duplicatesSkipped = duplicatesSkipped; }
+
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+
+    public long getUpdated() { return updated; }
+    public void setUpdated(long updated) { this.updated = updated; }
+
+    public long getAddressPending() { return addressPending; }
+    public void setAddressPending(long addressPending) { this.addressPending = addressPending; }
+
+    public long getAddressNotFound() { return addressNotFound; }
+    public void setAddressNotFound(long addressNotFound) { this.addressNotFound = addressNotFound; }
+
+    public long getChunks() { return chunks; }
+    public void setChunks(long chunks) { this.chunks = chunks; }
+
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+}
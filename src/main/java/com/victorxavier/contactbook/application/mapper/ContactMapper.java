@@ -18,7 +18,7 @@ public class ContactMapper {
     public ContactResponse toResponse(Contact contact) {
         if (contact == null) return null;
 
-        return new ContactResponse(
+        ContactResponse response = new ContactResponse(
                 contact.getId(),
                 contact.getName(),
                 contact.getPhone(),
@@ -29,6 +29,10 @@ public class ContactMapper {
                 contact.getCidade(),
                 contact.getEstado()
         );
+        if (contact.getAddressStatus() != null) {
+            response.setAddressStatus(contact.getAddressStatus().name());
+        }
+        return response;
     }
 
     public void updateEntity(Contact contact, ContactUpdateRequest request) {
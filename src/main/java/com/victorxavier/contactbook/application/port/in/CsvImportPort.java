@@ -1,9 +1,26 @@
 package com.victorxavier.contactbook.application.port.in;
 
 import com.victorxavier.contactbook.domain.entity.Contact;
-import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface CsvImportPort {
-    List<Contact> importContacts(MultipartFile file);
-}
\ No newline at end of file
+
+    /**
+     * Parses contacts from a CSV stream without holding the whole file in memory.
+     * Contacts are handed to {@code chunkConsumer} in chunks of at most {@code chunkSize};
+     * a chunk is only handed over once the previous one has been consumed. Contacts that replace
+     * a stored contact (see {@link ImportOptions.DuplicateMode#UPSERT}) arrive with its ID set.
+     *
+     * @param input CSV content, with a header line
+     * @param fileName original file name, used in error messages
+     * @param chunkSize maximum number of contacts per chunk
+     * @param options per-import settings; duplicates are filtered out before addresses are resolved
+     * @param progress counters updated as rows are read and skipped
+     * @param chunkConsumer receives each chunk, typically to persist it
+     */
+    void importContacts(InputStream input, String fileName, int chunkSize, ImportOptions options,
+                        ImportProgress progress, Consumer<List<Contact>> chunkConsumer);
+}
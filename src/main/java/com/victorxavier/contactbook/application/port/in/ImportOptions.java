@@ -0,0 +1,68 @@
+package com.victorxavier.contactbook.application.port.in;
+
+import java.util.Locale;
+
+/**
+ * Per-import settings chosen by the caller when uploading a file
+ */
+public class ImportOptions {
+
+    /**
+     * How each chunk of imported contacts is written to the database
+     */
+    public enum PersistenceMode {
+        /** Through the JPA repository, one entity per contact */
+        ENTITY,
+        /** Streamed with the database bulk-load protocol */
+        COPY;
+
+        public static PersistenceMode from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Modo de persistência inválido: " + value);
+            }
+        }
+    }
+
+    /**
+     * What to do with rows whose normalized phone already belongs to a stored contact
+     * or appeared earlier in the same file
+     */
+    public enum DuplicateMode {
+        /** No duplicate check; a chunk repeating a stored phone fails on the unique phone index */
+        INSERT,
+        /** Rows matching a stored contact are skipped */
+        SKIP,
+        /** Rows matching a stored contact replace it */
+        UPSERT;
+
+        public static DuplicateMode from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Modo de tratamento de duplicados inválido: " + value);
+            }
+        }
+    }
+
+    private final PersistenceMode persistence;
+    private final DuplicateMode duplicates;
+
+    public ImportOptions(PersistenceMode persistence) {
+        this(persistence, DuplicateMode.INSERT);
+    }
+
+    public ImportOptions(PersistenceMode persistence, DuplicateMode duplicates) {
+        this.persistence = persistence;
+        this.duplicates = duplicates;
+    }
+
+    public PersistenceMode getPersistence() {
+        return persistence;
+    }
+
+    public DuplicateMode getDuplicates() {
+        return duplicates;
+    }
+}
@@ -0,0 +1,83 @@
+package com.victorxavier.contactbook.application.port.in;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Running counters of a CSV import. Updated by the parser as rows are read and by the
+ * import use case as chunks are committed, so it can be read while the import is running.
+ */
+public class ImportProgress {
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsSkipped = new AtomicLong();
+    private final AtomicLong rowsEnriched = new AtomicLong();
+    private final AtomicLong duplicatesSkipped = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong addressPending = new AtomicLong();
+    private final AtomicLong addressNotFound = new AtomicLong();
+    private final AtomicLong chunks = new AtomicLong();
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void rowSkipped() {
+        rowsSkipped.incrementAndGet();
+    }
+
+    public void chunkEnriched(int contacts) {
+        rowsEnriched.addAndGet(contacts);
+    }
+
+    public void duplicatesSkipped(int contacts) {
+        duplicatesSkipped.addAndGet(contacts);
+    }
+
+    /**
+     * @param contacts contacts written, including {@code updatedContacts} that replaced stored ones
+     */
+    public void chunkCommitted(int contacts, int updatedContacts, int pending, int notFound) {
+        imported.addAndGet(contacts);
+        updated.addAndGet(updatedContacts);
+        addressPending.addAndGet(pending);
+        addressNotFound.addAndGet(notFound);
+        chunks.incrementAndGet();
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getRowsSkipped() {
+        return rowsSkipped.get();
+    }
+
+    public long getRowsEnriched() {
+        return rowsEnriched.get();
+    }
+
+    public long getDuplicatesSkipped() {
+        return duplicatesSkipped.get();
+    }
+
+    public long getImported() {
+        return imported.get();
+    }
+
+    public long getUpdated() {
+        return updated.get();
+    }
+
+    public long getAddressPending() {
+        return addressPending.get();
+    }
+
+    public long getAddressNotFound() {
+        return addressNotFound.get();
+    }
+
+    public long getChunks() {
+        return chunks.get();
+    }
+}
@@ -2,7 +2,9 @@ package com.victorxavier.contactbook.application.port.out;
 
 import com.victorxavier.contactbook.domain.entity.Contact;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
 
 /**
  * Abstract base class for contact export implementations
@@ -20,6 +22,11 @@ public abstract class AbstractContactExportPort implements ContactExportPort {
         this.fileExtension = fileExtension;
     }
 
+    @Override
+    public String getFormat() {
+        return format;
+    }
+
     @Override
     public String getMimeType() {
         return mimeType;
@@ -39,5 +46,5 @@ public abstract class AbstractContactExportPort implements ContactExportPort {
      * Template method to be implemented by concrete export classes
      */
     @Override
-    public abstract byte[] export(List<Contact> contacts);
+    public abstract void export(Stream<Contact> contacts, OutputStream output) throws IOException;
 }
\ No newline at end of file
@@ -1,11 +1,23 @@
 package com.victorxavier.contactbook.application.port.out;
 
 import com.victorxavier.contactbook.domain.entity.Contact;
-import java.util.List;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
 
 public interface ContactExportPort {
-    byte[] export(List<Contact> contacts);
+    /**
+     * Renders the contacts to the output as they are pulled from the stream, so the whole
+     * dataset never has to be in memory. The output is flushed but not closed.
+     */
+    void export(Stream<Contact> contacts, OutputStream output) throws IOException;
+
+    /**
+     * Returns the canonical name of the format, as accepted by {@link #canHandle(String)}
+     */
+    String getFormat();
     String getMimeType();
     String getFilename();
     boolean canHandle(String format);
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.victorxavier.contactbook.application.service;
+
+import com.victorxavier.contactbook.application.dto.request.ContactBatchCreateRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactBatchDeleteRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactBatchUpdateRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactLookupRequest;
+import com.victorxavier.contactbook.application.dto.response.ContactBatchResponse;
+import com.victorxavier.contactbook.application.dto.response.ContactLookupResponse;
+
+public interface ContactBatchService {
+
+    ContactBatchResponse createAll(ContactBatchCreateRequest request);
+
+    ContactBatchResponse updateAll(ContactBatchUpdateRequest request);
+
+    ContactBatchResponse deleteAll(ContactBatchDeleteRequest request);
+
+    /**
+     * Fetches the requested contacts with a single query. Missing IDs are reported, not thrown.
+     */
+    ContactLookupResponse findAll(ContactLookupRequest request);
+}
@@ -0,0 +1,363 @@
+package com.victorxavier.contactbook.application.service;
+
+import com.victorxavier.contactbook.application.dto.request.BaseContactRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactBatchCreateRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactBatchDeleteRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactBatchUpdateItem;
+import com.victorxavier.contactbook.application.dto.request.ContactBatchUpdateRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactLookupRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactRequest;
+import com.victorxavier.contactbook.application.dto.response.ContactBatchItemResponse;
+import com.victorxavier.contactbook.application.dto.response.ContactBatchItemResponse.Status;
+import com.victorxavier.contactbook.application.dto.response.ContactBatchResponse;
+import com.victorxavier.contactbook.application.dto.response.ContactLookupResponse;
+import com.victorxavier.contactbook.application.dto.response.ContactResponse;
+import com.victorxavier.contactbook.application.mapper.ContactMapper;
+import com.victorxavier.contactbook.domain.entity.Contact;
+import com.victorxavier.contactbook.domain.repository.ContactRepository;
+import com.victorxavier.contactbook.domain.service.AddressService;
+import com.victorxavier.contactbook.infrastructure.exception.FieldMessage;
+import com.victorxavier.contactbook.infrastructure.persistence.TransactionRunner;
+import com.victorxavier.contactbook.infrastructure.service.AddressBatchResolver;
+import com.victorxavier.contactbook.infrastructure.service.ContactDuplicateDetector;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Batch create, update and delete. Each item is validated on its own and rejected items are
+ * reported without affecting the others. Phones are checked against the stored contacts and the
+ * rest of the batch before anything is written, so one item colliding with the unique phone
+ * index is reported as a conflict instead of rolling back the whole batch. The distinct CEPs of a batch are resolved once,
+ * before the write transaction, and every accepted item is then written in a single
+ * transaction whose inserts and updates Hibernate sends as JDBC batches.
+ * Batches are limited to {@code contactbook.batch.max-items} items.
+ * Lookups by ID fetch up to {@code contactbook.batch.max-lookup-ids} contacts with one {@code IN} query.
+ */
+@Service
+public class ContactBatchServiceImpl implements ContactBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactBatchServiceImpl.class);
+
+    private final ContactRepository contactRepository;
+    private final AddressBatchResolver addressResolver;
+    private final ContactMapper mapper;
+    private final TransactionRunner transactions;
+    private final Validator validator;
+    private final int maxItems;
+    private final int maxLookupIds;
+    private final int cepParallelism;
+    private final boolean asyncAddressEnrichment;
+
+    public ContactBatchServiceImpl(ContactRepository contactRepository,
+                                   AddressBatchResolver addressResolver,
+                                   ContactMapper mapper,
+                                   TransactionRunner transactions,
+                                   Validator validator,
+                                   @Value("${contactbook.batch.max-items:500}") int maxItems,
+                                   @Value("${contactbook.batch.max-lookup-ids:1000}") int maxLookupIds,
+                                   @Value("${contactbook.batch.cep-parallelism:16}") int cepParallelism,
+                                   @Value("${contactbook.address.async-enrichment:false}") boolean asyncAddressEnrichment) {
+        this.contactRepository = contactRepository;
+        this.addressResolver = addressResolver;
+        this.mapper = mapper;
+        this.transactions = transactions;
+        this.validator = validator;
+        this.maxItems = maxItems;
+        this.maxLookupIds = maxLookupIds;
+        this.cepParallelism = cepParallelism;
+        this.asyncAddressEnrichment = asyncAddressEnrichment;
+    }
+
+    @Override
+    public ContactBatchResponse createAll(ContactBatchCreateRequest request) {
+        List<ContactRequest> items = request.getItems();
+        checkSize(items.size(), maxItems);
+        log.info("Creating batch of {} contacts", items.size());
+
+        ContactBatchItemResponse[] results = new ContactBatchItemResponse[items.size()];
+        Map<Integer, Contact> accepted = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            List<FieldMessage> errors = validate(items.get(i));
+            if (!errors.isEmpty()) {
+                results[i] = ContactBatchItemResponse.rejected(i, null, Status.INVALID, errors);
+                continue;
+            }
+            accepted.put(i, mapper.toEntity(items.get(i)));
+        }
+
+        rejectPhoneConflicts(accepted, results);
+        populateAddresses(accepted, results);
+
+        if (!accepted.isEmpty()) {
+            List<Contact> saved = transactions.write("contact.batch.create",
+                    () -> contactRepository.saveAll(new ArrayList<>(accepted.values())));
+            int position = 0;
+            for (Integer index : accepted.keySet()) {
+                results[index] = ContactBatchItemResponse.applied(index, Status.CREATED,
+                        mapper.toResponse(saved.get(position++)));
+            }
+        }
+        return summarize("Created", results);
+    }
+
+    @Override
+    public ContactBatchResponse updateAll(ContactBatchUpdateRequest request) {
+        List<ContactBatchUpdateItem> items = request.getItems();
+        checkSize(items.size(), maxItems);
+        log.info("Updating batch of {} contacts", items.size());
+
+        ContactBatchItemResponse[] results = new ContactBatchItemResponse[items.size()];
+        Map<Integer, ContactBatchUpdateItem> valid = new LinkedHashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            ContactBatchUpdateItem item = items.get(i);
+            List<FieldMessage> errors = validate(item);
+            if (!errors.isEmpty()) {
+                results[i] = ContactBatchItemResponse.rejected(i, item == null ? null : item.getId(), Status.INVALID, errors);
+            } else if (!seen.add(item.getId())) {
+                results[i] = duplicate(i, item.getId());
+            } else {
+                valid.put(i, item);
+            }
+        }
+
+        Map<Long, Contact> existing = byId(contactRepository.findAllById(seen));
+        Map<Integer, Contact> accepted = new LinkedHashMap<>();
+        Map<Integer, Contact> cepChanged = new LinkedHashMap<>();
+        valid.forEach((index, item) -> {
+            Contact contact = existing.get(item.getId());
+            if (contact == null) {
+                results[index] = notFound(index, item.getId());
+                return;
+            }
+            String oldCep = contact.getCep();
+            mapper.updateEntity(contact, item);
+            accepted.put(index, contact);
+            if (item.getCep() != null && !item.getCep().isBlank() && !contact.getCep().equals(oldCep)) {
+                cepChanged.put(index, contact);
+            }
+        });
+
+        rejectPhoneConflicts(accepted, results);
+        cepChanged.keySet().retainAll(accepted.keySet());
+        populateAddresses(cepChanged, results);
+        accepted.keySet().removeIf(index -> results[index] != null);
+
+        if (!accepted.isEmpty()) {
+            transactions.write("contact.batch.update", () -> {
+                // Loading the rows first lets the merges below hit the persistence context instead
+                // of issuing one SELECT each, and catches contacts deleted since they were read
+                Set<Long> stillThere = byId(contactRepository.findAllById(
+                        accepted.values().stream().map(Contact::getId).toList())).keySet();
+                accepted.entrySet().removeIf(entry -> {
+                    if (stillThere.contains(entry.getValue().getId())) {
+                        return false;
+                    }
+                    results[entry.getKey()] = notFound(entry.getKey(), entry.getValue().getId());
+                    return true;
+                });
+                List<Contact> saved = contactRepository.saveAll(new ArrayList<>(accepted.values()));
+                int position = 0;
+                for (Integer index : accepted.keySet()) {
+                    results[index] = ContactBatchItemResponse.applied(index, Status.UPDATED,
+                            mapper.toResponse(saved.get(position++)));
+                }
+            });
+        }
+        return summarize("Updated", results);
+    }
+
+    @Override
+    public ContactBatchResponse deleteAll(ContactBatchDeleteRequest request) {
+        List<Long> ids = request.getIds();
+        checkSize(ids.size(), maxItems);
+        log.info("Deleting batch of {} contacts", ids.size());
+
+        ContactBatchItemResponse[] results = new ContactBatchItemResponse[ids.size()];
+        Set<Long> unique = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results[i] = ContactBatchItemResponse.rejected(i, null, Status.INVALID,
+                        "id", "ID do contato não pode ser nulo");
+            } else if (!unique.add(id)) {
+                results[i] = duplicate(i, id);
+            }
+        }
+
+        Set<Long> deleted = unique.isEmpty() ? Set.of() : transactions.write("contact.batch.delete", () -> {
+            Set<Long> found = byId(contactRepository.findAllById(unique)).keySet();
+            if (!found.isEmpty()) {
+                contactRepository.deleteAllById(found);
+            }
+            return found;
+        });
+
+        for (int i = 0; i < ids.size(); i++) {
+            if (results[i] == null) {
+                Long id = ids.get(i);
+                results[i] = deleted.contains(id)
+                        ? new ContactBatchItemResponse(i, id, Status.DELETED)
+                        : notFound(i, id);
+            }
+        }
+        return summarize("Deleted", results);
+    }
+
+    @Override
+    public ContactLookupResponse findAll(ContactLookupRequest request) {
+        List<Long> ids = request.getIds();
+        checkSize(ids.size(), maxLookupIds);
+        log.info("Looking up {} contacts by ID", ids.size());
+
+        Set<Long> unique = new LinkedHashSet<>(ids);
+        Map<Long, Contact> found = transactions.read("contact.lookup",
+                () -> byId(contactRepository.findAllById(unique)));
+
+        List<ContactResponse> contacts = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : unique) {
+            Contact contact = found.get(id);
+            if (contact != null) {
+                contacts.add(mapper.toResponse(contact));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        log.info("Found {} of {} requested contacts", contacts.size(), unique.size());
+        return new ContactLookupResponse(contacts, missingIds);
+    }
+
+    /**
+     * Rejects the contacts whose phone, compared on digits only, already belongs to another stored
+     * contact or to an earlier item of the batch. Rejected contacts are removed from the map and
+     * reported as {@link Status#CONFLICT}; phones without digits are not unique and never conflict.
+     */
+    private void rejectPhoneConflicts(Map<Integer, Contact> contacts, ContactBatchItemResponse[] results) {
+        Map<String, Integer> firstByPhone = new HashMap<>();
+        contacts.entrySet().removeIf(entry -> {
+            int index = entry.getKey();
+            String phone = ContactDuplicateDetector.normalize(entry.getValue().getPhone());
+            if (phone.isEmpty()) {
+                return false;
+            }
+            Integer first = firstByPhone.putIfAbsent(phone, index);
+            if (first == null) {
+                return false;
+            }
+            results[index] = ContactBatchItemResponse.rejected(index, entry.getValue().getId(), Status.CONFLICT,
+                    "phone", "Telefone repetido no lote, já usado pelo item " + first);
+            return true;
+        });
+        if (firstByPhone.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> owners = transactions.read("contact.batch.phones",
+                () -> contactRepository.findIdsByNormalizedPhone(firstByPhone.keySet()));
+        owners.forEach((phone, ownerId) -> {
+            int index = firstByPhone.get(phone);
+            Contact contact = contacts.get(index);
+            if (!ownerId.equals(contact.getId())) {
+                contacts.remove(index);
+                results[index] = ContactBatchItemResponse.rejected(index, contact.getId(), Status.CONFLICT,
+                        "phone", "Telefone já cadastrado para o contato com ID: " + ownerId);
+            }
+        });
+    }
+
+    /**
+     * Resolves the distinct CEPs of the given contacts and fills in their addresses.
+     * Contacts whose CEP could not be resolved are removed from the map and their rejection
+     * is recorded in {@code results}, mirroring the errors of the single-contact endpoints.
+     */
+    private void populateAddresses(Map<Integer, Contact> contacts, ContactBatchItemResponse[] results) {
+        if (contacts.isEmpty()) {
+            return;
+        }
+        if (asyncAddressEnrichment) {
+            contacts.values().forEach(Contact::markAddressPending);
+            return;
+        }
+
+        Set<String> ceps = contacts.values().stream().map(Contact::getCep).collect(Collectors.toSet());
+        Map<String, AddressBatchResolver.Resolution> resolutions =
+                addressResolver.resolveAll(ceps, AddressService.LookupPriority.INTERACTIVE, cepParallelism);
+
+        contacts.entrySet().removeIf(entry -> {
+            int index = entry.getKey();
+            Contact contact = entry.getValue();
+            AddressBatchResolver.Resolution resolution = resolutions.get(contact.getCep());
+            switch (resolution.outcome()) {
+                case RESOLVED -> {
+                    AddressService.AddressInfo addressInfo = resolution.address();
+                    contact.setAddress(
+                            addressInfo.getLogradouro(),
+                            addressInfo.getBairro(),
+                            addressInfo.getCidade(),
+                            addressInfo.getEstado()
+                    );
+                    return false;
+                }
+                case PENDING -> {
+                    contact.markAddressPending();
+                    return false;
+                }
+                case NOT_FOUND -> results[index] = ContactBatchItemResponse.rejected(index, contact.getId(),
+                        Status.ADDRESS_NOT_FOUND, "cep", resolution.message());
+                case FAILED -> results[index] = ContactBatchItemResponse.rejected(index, contact.getId(),
+                        Status.FAILED, "cep", resolution.message());
+            }
+            return true;
+        });
+    }
+
+    private List<FieldMessage> validate(BaseContactRequest item) {
+        if (item == null) {
+            return List.of(new FieldMessage("item", "Item do lote não pode ser nulo"));
+        }
+        Set<ConstraintViolation<BaseContactRequest>> violations = validator.validate(item);
+        return violations.stream()
+                .map(violation -> new FieldMessage(violation.getPropertyPath().toString(), violation.getMessage()))
+                .toList();
+    }
+
+    private static void checkSize(int size, int max) {
+        if (size > max) {
+            throw new IllegalArgumentException("O lote excede o limite de " + max + " itens: " + size);
+        }
+    }
+
+    private static Map<Long, Contact> byId(List<Contact> contacts) {
+        return contacts.stream().collect(Collectors.toMap(Contact::getId, contact -> contact));
+    }
+
+    private static ContactBatchItemResponse duplicate(int index, Long id) {
+        return ContactBatchItemResponse.rejected(index, id, Status.INVALID, "id", "ID repetido no lote: " + id);
+    }
+
+    private static ContactBatchItemResponse notFound(int index, Long id) {
+        return ContactBatchItemResponse.rejected(index, id, Status.NOT_FOUND, "id", "Contato não encontrado com ID: " + id);
+    }
+
+    private static ContactBatchResponse summarize(String action, ContactBatchItemResponse[] results) {
+        ContactBatchResponse response = new ContactBatchResponse(Arrays.asList(results));
+        log.info("{} {} of {} contacts in batch", action, response.getSucceeded(), response.getTotal());
+        return response;
+    }
+}
@@ -4,10 +4,13 @@ import com.victorxavier.contactbook.application.dto.request.ContactRequest;
 import com.victorxavier.contactbook.application.dto.request.ContactUpdateRequest;
 import com.victorxavier.contactbook.application.dto.response.ContactResponse;
 import com.victorxavier.contactbook.application.dto.response.ExportedFile;
+import com.victorxavier.contactbook.application.dto.response.ImportSummaryResponse;
 import com.victorxavier.contactbook.application.dto.response.PageResponse;
+import com.victorxavier.contactbook.application.port.in.ImportOptions;
+import com.victorxavier.contactbook.application.port.in.ImportProgress;
 import org.springframework.data.domain.Pageable;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.util.List;
 
 public interface ContactService {
@@ -26,7 +29,7 @@ public interface ContactService {
 
     PageResponse<ContactResponse> findBySearchTerm(String search, Pageable pageable);
 
-    List<ContactResponse> importFromCsv(MultipartFile file);
+    ImportSummaryResponse importFromCsv(InputStream input, String fileName, ImportOptions options, ImportProgress progress);
 
     ExportedFile export(String format);
 }
\ No newline at end of file
@@ -4,29 +4,45 @@ import com.victorxavier.contactbook.application.dto.request.ContactRequest;
 import com.victorxavier.contactbook.application.dto.request.ContactUpdateRequest;
 import com.victorxavier.contactbook.application.dto.response.ContactResponse;
 import com.victorxavier.contactbook.application.dto.response.ExportedFile;
+import com.victorxavier.contactbook.application.dto.response.ImportSummaryResponse;
 import com.victorxavier.contactbook.application.dto.response.PageResponse;
 import com.victorxavier.contactbook.application.mapper.ContactMapper;
 import com.victorxavier.contactbook.application.port.in.CsvImportPort;
+import com.victorxavier.contactbook.application.port.in.ImportOptions;
+import com.victorxavier.contactbook.application.port.in.ImportProgress;
 import com.victorxavier.contactbook.application.port.out.ContactExportPort;
+import com.victorxavier.contactbook.domain.entity.AddressStatus;
 import com.victorxavier.contactbook.domain.entity.Contact;
 import com.victorxavier.contactbook.domain.repository.ContactRepository;
 import com.victorxavier.contactbook.domain.service.AddressService;
+import com.victorxavier.contactbook.infrastructure.cache.ExportFileCache;
 import com.victorxavier.contactbook.infrastructure.exception.AddressNotFoundException;
 import com.victorxavier.contactbook.infrastructure.exception.ContactNotFoundException;
 import com.victorxavier.contactbook.infrastructure.exception.ExternalServiceException;
+import com.victorxavier.contactbook.infrastructure.persistence.TransactionRunner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * Contact use cases. Address resolution (which may call ViaCEP) always happens before
+ * the write transaction is opened, so no database connection is held during HTTP calls.
+ * CSV imports are streamed and committed in chunks of {@code contactbook.import.chunk-size} contacts.
+ */
 @Service
-@Transactional
 public class ContactServiceImpl implements ContactService {
 
     private static final Logger log = LoggerFactory.getLogger(ContactServiceImpl.class);
@@ -36,17 +52,29 @@ public class ContactServiceImpl implements ContactService {
     private final ContactMapper mapper;
     private final CsvImportPort csvImportPort;
     private final List<ContactExportPort> exportPorts;
+    private final ExportFileCache exportCache;
+    private final TransactionRunner transactions;
+    private final boolean asyncAddressEnrichment;
+    private final int importChunkSize;
 
     public ContactServiceImpl(ContactRepository contactRepository,
                               AddressService addressService,
                               ContactMapper mapper,
                               CsvImportPort csvImportPort,
-                              List<ContactExportPort> exportPorts) {
+                              List<ContactExportPort> exportPorts,
+                              ExportFileCache exportCache,
+                              TransactionRunner transactions,
+                              @Value("${contactbook.address.async-enrichment:false}") boolean asyncAddressEnrichment,
+                              @Value("${contactbook.import.chunk-size:1000}") int importChunkSize) {
         this.contactRepository = contactRepository;
         this.addressService = addressService;
         this.mapper = mapper;
         this.csvImportPort = csvImportPort;
         this.exportPorts = exportPorts;
+        this.exportCache = exportCache;
+        this.transactions = transactions;
+        this.asyncAddressEnrichment = asyncAddressEnrichment;
+        this.importChunkSize = importChunkSize;
     }
 
     @Override
@@ -54,36 +82,75 @@ public class ContactServiceImpl implements ContactService {
         log.info("Saving contact with name: {}", request.getName());
         Contact contact = mapper.toEntity(request);
         populateAddress(contact);
-        Contact savedContact = contactRepository.save(contact);
+        Contact savedContact = transactions.write("contact.save", () -> contactRepository.save(contact));
         log.info("Contact saved successfully with ID: {}", savedContact.getId());
         return mapper.toResponse(savedContact);
     }
 
+    /**
+     * Resolves the address of a new CEP before the write transaction, then loads, changes and saves
+     * the contact inside it, so an update or delete committed in the meantime is seen rather than
+     * overwritten or re-created. Should the CEP have changed since it was resolved, the address is
+     * left pending.
+     */
     @Override
     public ContactResponse update(Long id, ContactUpdateRequest request) {
         log.info("Updating contact with ID: {}", id);
-        Contact contact = contactRepository.findById(id)
-                .orElseThrow(() -> ContactNotFoundException.byId(id));
+        Contact resolved = resolveNewAddress(id, request);
 
-        String oldCep = contact.getCep();
-        mapper.updateEntity(contact, request);
+        Contact updatedContact = transactions.write("contact.update", () -> {
+            Contact contact = contactRepository.findById(id)
+                    .orElseThrow(() -> ContactNotFoundException.byId(id));
+            String oldCep = contact.getCep();
+            mapper.updateEntity(contact, request);
+            if (!Objects.equals(oldCep, contact.getCep()) && !contact.getCep().isEmpty()) {
+                if (resolved != null && resolved.getCep().equals(contact.getCep())) {
+                    copyAddress(resolved, contact);
+                } else {
+                    contact.markAddressPending();
+                }
+            }
+            return contactRepository.save(contact);
+        });
+        log.info("Contact updated successfully with ID: {}", updatedContact.getId());
+        return mapper.toResponse(updatedContact);
+    }
 
-        if (request.getCep() != null && !request.getCep().trim().isEmpty() && !request.getCep().equals(oldCep)) {
-            populateAddress(contact);
+    /**
+     * Returns a contact holding the address of the requested CEP, or null when the request keeps the current CEP
+     */
+    private Contact resolveNewAddress(Long id, ContactUpdateRequest request) {
+        if (request.getCep() == null || request.getCep().trim().isEmpty()) {
+            return null;
+        }
+        Contact current = transactions.read("contact.update.read", () -> contactRepository.findById(id))
+                .orElseThrow(() -> ContactNotFoundException.byId(id));
+        if (request.getCleanCep().equals(current.getCep())) {
+            return null;
         }
+        Contact resolved = new Contact();
+        resolved.setCep(request.getCleanCep());
+        populateAddress(resolved);
+        return resolved;
+    }
 
-        Contact updatedContact = contactRepository.save(contact);
-        log.info("Contact updated successfully with ID: {}", updatedContact.getId());
-        return mapper.toResponse(updatedContact);
+    private static void copyAddress(Contact from, Contact to) {
+        to.setLogradouro(from.getLogradouro());
+        to.setBairro(from.getBairro());
+        to.setCidade(from.getCidade());
+        to.setEstado(from.getEstado());
+        to.setAddressStatus(from.getAddressStatus());
     }
 
     @Override
     public void delete(Long id) {
         log.info("Deleting contact with ID: {}", id);
-        if (!contactRepository.existsById(id)) {
-            throw ContactNotFoundException.byId(id);
-        }
-        contactRepository.deleteById(id);
+        transactions.write("contact.delete", () -> {
+            if (!contactRepository.existsById(id)) {
+                throw ContactNotFoundException.byId(id);
+            }
+            contactRepository.deleteById(id);
+        });
         log.info("Contact deleted successfully with ID: {}", id);
     }
 
@@ -126,18 +193,64 @@ public class ContactServiceImpl implements ContactService {
     }
 
     @Override
-    public List<ContactResponse> importFromCsv(MultipartFile file) {
-        log.info("Importing contacts from CSV file: {}", file.getOriginalFilename());
-        List<Contact> contacts = csvImportPort.importContacts(file);
-        List<Contact> savedContacts = contactRepository.saveAll(contacts);
-        log.info("Imported {} contacts successfully", savedContacts.size());
-        return savedContacts.stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+    public ImportSummaryResponse importFromCsv(InputStream input, String fileName, ImportOptions options,
+                                               ImportProgress progress) {
+        log.info("Importing contacts from CSV file: {} ({} persistence, {} duplicates)",
+                fileName, options.getPersistence(), options.getDuplicates());
+        long start = System.nanoTime();
+
+        csvImportPort.importContacts(input, fileName, importChunkSize, options, progress,
+                chunk -> saveChunk(chunk, options, progress));
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Imported {} contacts in {} chunks from {} ({} ms)",
+                progress.getImported(), progress.getChunks(), fileName, durationMs);
+        return new ImportSummaryResponse(fileName, progress, durationMs);
+    }
+
+    private void saveChunk(List<Contact> chunk, ImportOptions options, ImportProgress progress) {
+        List<Contact> replacing = chunk.stream().filter(contact -> contact.getId() != null).toList();
+        transactions.write(options.getPersistence() == ImportOptions.PersistenceMode.COPY
+                ? "contact.import.copy" : "contact.import", () -> {
+            if (!replacing.isEmpty()) {
+                // Loads the replaced rows so the merges below do not issue one SELECT each
+                contactRepository.findAllById(replacing.stream().map(Contact::getId).toList());
+            }
+            if (options.getPersistence() == ImportOptions.PersistenceMode.COPY) {
+                if (!replacing.isEmpty()) {
+                    contactRepository.saveAll(replacing);
+                }
+                List<Contact> inserting = replacing.isEmpty() ? chunk
+                        : chunk.stream().filter(contact -> contact.getId() == null).toList();
+                if (!inserting.isEmpty()) {
+                    contactRepository.bulkInsert(inserting);
+                }
+            } else {
+                contactRepository.saveAll(chunk);
+            }
+        });
+        int pending = 0;
+        int notFound = 0;
+        for (Contact contact : chunk) {
+            if (contact.getAddressStatus() == AddressStatus.PENDING) {
+                pending++;
+            } else if (contact.getAddressStatus() == AddressStatus.NOT_FOUND) {
+                notFound++;
+            }
+        }
+        progress.chunkCommitted(chunk.size(), replacing.size(), pending, notFound);
     }
 
+    /**
+     * Resolves the exporter and the current data version right away, so an unknown format fails
+     * before the response starts and the caller can answer a matching If-None-Match without any
+     * rendering. Reading the contacts is deferred until the file is written: the export cache
+     * serves an earlier rendering of the same version when it has one, otherwise the contacts
+     * are streamed from a database cursor straight into the exporter, inside a read-only
+     * transaction that lasts as long as the download. The version is read first, so the
+     * rendered content is never older than the version it is cached and tagged under.
+     */
     @Override
-    @Transactional(readOnly = true)
     public ExportedFile export(String format) {
         log.info("Preparing export for format: {}", format);
 
@@ -146,20 +259,47 @@ public class ContactServiceImpl implements ContactService {
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Formato de exportação inválido ou não suportado: " + format));
 
-        List<Contact> contacts = contactRepository.findAll();
-        byte[] data = exportPort.export(contacts);
+        long version = transactions.read("contact.export.version", contactRepository::getDataVersion);
+        ExportedFile.ContentWriter content = exportCache.cached(exportPort.getFormat(), version,
+                output -> writeExport(exportPort, format, output));
 
-        log.info("Export data generated successfully for format: {}. Filename: {}, ContentType: {}",
-                format, exportPort.getFilename(), exportPort.getMimeType());
+        return new ExportedFile(content, exportPort.getFilename(), exportPort.getMimeType(),
+                exportCache.entityTag(exportPort.getFormat(), version));
+    }
 
-        return new ExportedFile(data, exportPort.getFilename(), exportPort.getMimeType());
+    private void writeExport(ContactExportPort exportPort, String format, OutputStream output) throws IOException {
+        long start = System.nanoTime();
+        try {
+            transactions.read("contact.export", () -> {
+                try (Stream<Contact> contacts = contactRepository.streamAll()) {
+                    exportPort.export(contacts, output);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        log.info("Export generated successfully for format: {}. Filename: {}, ContentType: {} ({} ms)",
+                format, exportPort.getFilename(), exportPort.getMimeType(), (System.nanoTime() - start) / 1_000_000);
     }
+
     private void populateAddress(Contact contact) {
         if (contact.getCep() == null || contact.getCep().isBlank()) {
             return;
         }
+        if (asyncAddressEnrichment) {
+            contact.markAddressPending();
+            return;
+        }
         try {
             AddressService.AddressInfo addressInfo = addressService.getAddressByCep(contact.getCep());
+            if (addressInfo.isPending()) {
+                log.warn("Address for CEP {} is pending, saving contact without address", contact.getCep());
+                contact.markAddressPending();
+                return;
+            }
             contact.setAddress(
                     addressInfo.getLogradouro(),
                     addressInfo.getBairro(),
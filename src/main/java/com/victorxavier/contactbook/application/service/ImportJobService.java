@@ -0,0 +1,15 @@
+package com.victorxavier.contactbook.application.service;
+
+import com.victorxavier.contactbook.application.dto.response.ImportJobResponse;
+import com.victorxavier.contactbook.application.port.in.ImportOptions;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ImportJobService {
+
+    /**
+     * Stores the upload and queues it for import, returning as soon as the job is queued
+     */
+    ImportJobResponse submit(MultipartFile file, ImportOptions options);
+
+    ImportJobResponse getJob(String jobId);
+}
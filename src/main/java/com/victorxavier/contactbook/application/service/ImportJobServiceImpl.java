@@ -0,0 +1,180 @@
+package com.victorxavier.contactbook.application.service;
+
+import com.victorxavier.contactbook.application.dto.response.ImportJobResponse;
+import com.victorxavier.contactbook.application.dto.response.ImportJobResponse.Status;
+import com.victorxavier.contactbook.application.dto.response.ImportSummaryResponse;
+import com.victorxavier.contactbook.application.port.in.ImportOptions;
+import com.victorxavier.contactbook.application.port.in.ImportProgress;
+import com.victorxavier.contactbook.infrastructure.exception.CsvProcessingException;
+import com.victorxavier.contactbook.infrastructure.exception.ImportJobNotFoundException;
+import com.victorxavier.contactbook.infrastructure.exception.ImportJobRejectedException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs CSV imports in a bounded worker pool. Uploads are copied to a temporary file so the
+ * request can return immediately; the file is deleted once the job finishes.
+ * Jobs are kept in memory on the instance that accepted them and purged
+ * {@code contactbook.import.job-retention} after they finish.
+ */
+@Service
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportJobServiceImpl.class);
+
+    private final ContactService contactService;
+    private final ThreadPoolExecutor workers;
+    private final Duration jobRetention;
+    private final ConcurrentMap<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ImportJobServiceImpl(ContactService contactService,
+                                @Value("${contactbook.import.workers:2}") int workerCount,
+                                @Value("${contactbook.import.queue-capacity:10}") int queueCapacity,
+                                @Value("${contactbook.import.job-retention:24h}") Duration jobRetention) {
+        this.contactService = contactService;
+        this.jobRetention = jobRetention;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "contact-import-" + threadCount.incrementAndGet()));
+    }
+
+    @Override
+    public ImportJobResponse submit(MultipartFile file, ImportOptions options) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("File cannot be empty");
+        }
+
+        Path upload = storeUpload(file);
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), file.getOriginalFilename(), options);
+        jobs.put(job.id, job);
+        try {
+            workers.execute(() -> run(job, upload));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.id);
+            deleteUpload(upload);
+            throw ImportJobRejectedException.queueFull();
+        }
+
+        log.info("Queued import job {} for file {}", job.id, job.fileName);
+        return toResponse(job);
+    }
+
+    @Override
+    public ImportJobResponse getJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw ImportJobNotFoundException.byId(jobId);
+        }
+        return toResponse(job);
+    }
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void purgeFinishedJobs() {
+        Instant cutoff = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void run(ImportJob job, Path upload) {
+        job.startedAt = Instant.now();
+        job.status = Status.RUNNING;
+        try (InputStream input = Files.newInputStream(upload)) {
+            job.result = contactService.importFromCsv(input, job.fileName, job.options, job.progress);
+            job.status = Status.COMPLETED;
+        } catch (Exception ex) {
+            log.error("Import job {} failed after {} contacts", job.id, job.progress.getImported(), ex);
+            job.error = ex.getMessage();
+            job.status = Status.FAILED;
+        } finally {
+            job.finishedAt = Instant.now();
+            deleteUpload(upload);
+        }
+    }
+
+    private Path storeUpload(MultipartFile file) {
+        try {
+            Path upload = Files.createTempFile("contact-import-", ".upload");
+            file.transferTo(upload);
+            return upload;
+        } catch (IOException ex) {
+            throw new CsvProcessingException("Falha ao receber o arquivo CSV: " + ex.getMessage(), ex);
+        }
+    }
+
+    private void deleteUpload(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException ex) {
+            log.warn("Could not delete import upload {}: {}", upload, ex.getMessage());
+        }
+    }
+
+    private ImportJobResponse toResponse(ImportJob job) {
+        ImportProgress progress = job.progress;
+        ImportJobResponse response = new ImportJobResponse();
+        response.setJobId(job.id);
+        response.setStatus(job.status);
+        response.setFileName(job.fileName);
+        response.setRowsParsed(progress.getRowsRead());
+        response.setRowsEnriched(progress.getRowsEnriched());
+        response.setRowsPersisted(progress.getImported());
+        response.setRowsFailed(progress.getRowsSkipped());
+        response.setRowsDuplicate(progress.getDuplicatesSkipped());
+        response.setSubmittedAt(job.submittedAt);
+        response.setStartedAt(job.startedAt);
+        response.setFinishedAt(job.finishedAt);
+        response.setError(job.error);
+        response.setResult(job.result);
+        if (job.startedAt != null) {
+            Instant end = job.finishedAt != null ? job.finishedAt : Instant.now();
+            long elapsedMs = Math.max(1, Duration.between(job.startedAt, end).toMillis());
+            response.setRowsPerSecond(progress.getImported() * 1000.0 / elapsedMs);
+        }
+        return response;
+    }
+
+    private static final class ImportJob {
+
+        private final String id;
+        private final String fileName;
+        private final ImportOptions options;
+        private final Instant submittedAt = Instant.now();
+        private final ImportProgress progress = new ImportProgress();
+        private volatile Status status = Status.QUEUED;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String error;
+        private volatile ImportSummaryResponse result;
+
+        private ImportJob(String id, String fileName, ImportOptions options) {
+            this.id = id;
+            this.fileName = fileName;
+            this.options = options;
+        }
+    }
+}
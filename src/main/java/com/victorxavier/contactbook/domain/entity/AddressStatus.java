@@ -0,0 +1,22 @@
+package com.victorxavier.contactbook.domain.entity;
+
+/**
+ * Resolution state of the address derived from a contact's CEP
+ */
+public enum AddressStatus {
+
+    /**
+     * Address fields were filled from the CEP
+     */
+    RESOLVED,
+
+    /**
+     * CEP lookup has not happened yet or the address source was unavailable
+     */
+    PENDING,
+
+    /**
+     * The CEP does not exist, so the address stays empty
+     */
+    NOT_FOUND
+}
@@ -9,6 +9,7 @@ public abstract class BaseAddressEntity extends BaseEntity implements AddressHol
     private String bairro;
     private String cidade;
     private String estado;
+    private AddressStatus addressStatus = AddressStatus.RESOLVED;
 
     protected BaseAddressEntity() {}
     
@@ -48,14 +49,39 @@ public abstract class BaseAddressEntity extends BaseEntity implements AddressHol
         this.estado = estado;
     }
     
+    public AddressStatus getAddressStatus() {
+        return addressStatus;
+    }
+
+    public void setAddressStatus(AddressStatus addressStatus) {
+        this.addressStatus = addressStatus;
+    }
+
     /**
-     * Sets all address fields at once
+     * Sets all address fields at once and marks the address as resolved
      */
     public void setAddress(String logradouro, String bairro, String cidade, String estado) {
         this.logradouro = logradouro;
         this.bairro = bairro;
         this.cidade = cidade;
         this.estado = estado;
+        this.addressStatus = AddressStatus.RESOLVED;
+    }
+
+    /**
+     * Clears the address until the CEP can be resolved
+     */
+    public void markAddressPending() {
+        clearAddress();
+        this.addressStatus = AddressStatus.PENDING;
+    }
+
+    /**
+     * Clears the address of a CEP that does not exist
+     */
+    public void markAddressNotFound() {
+        clearAddress();
+        this.addressStatus = AddressStatus.NOT_FOUND;
     }
     
     /**
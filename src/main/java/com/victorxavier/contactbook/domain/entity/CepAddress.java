@@ -0,0 +1,89 @@
+package com.victorxavier.contactbook.domain.entity;
+
+import com.victorxavier.contactbook.domain.service.AddressService.AddressInfo;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Domain entity representing a resolved CEP address kept as a lookup cache
+ */
+public class CepAddress {
+
+    private String cep;
+    private String logradouro;
+    private String bairro;
+    private String cidade;
+    private String estado;
+    private Instant updatedAt;
+
+    public CepAddress() {}
+
+    public CepAddress(String cep, AddressInfo address, Instant updatedAt) {
+        this.cep = cep;
+        this.logradouro = address.getLogradouro();
+        this.bairro = address.getBairro();
+        this.cidade = address.getCidade();
+        this.estado = address.getEstado();
+        this.updatedAt = updatedAt;
+    }
+
+    public String getCep() {
+        return cep;
+    }
+
+    public void setCep(String cep) {
+        this.cep = cep;
+    }
+
+    public String getLogradouro() {
+        return logradouro;
+    }
+
+    public void setLogradouro(String logradouro) {
+        this.logradouro = logradouro;
+    }
+
+    public String getBairro() {
+        return bairro;
+    }
+
+    public void setBairro(String bairro) {
+        this.bairro = bairro;
+    }
+
+    public String getCidade() {
+        return cidade;
+    }
+
+    public void setCidade(String cidade) {
+        this.cidade = cidade;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Checks whether the entry is older than the given staleness window
+     */
+    public boolean isStale(Duration staleness, Instant now) {
+        return updatedAt == null || updatedAt.plus(staleness).isBefore(now);
+    }
+
+    public AddressInfo toAddressInfo() {
+        return new AddressInfo(logradouro, bairro, cidade, estado);
+    }
+}
@@ -0,0 +1,10 @@
+package com.victorxavier.contactbook.domain.repository;
+
+import com.victorxavier.contactbook.domain.entity.CepAddress;
+
+import java.util.Optional;
+
+public interface CepAddressRepository {
+    Optional<CepAddress> findByCep(String cep);
+    void save(CepAddress cepAddress);
+}
@@ -4,17 +4,51 @@ import com.victorxavier.contactbook.domain.entity.Contact;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ContactRepository {
     Contact save(Contact contact);
     List<Contact> saveAll(List<Contact> contacts);
+    /**
+     * Inserts the contacts through the database bulk-load path, assigning their ids.
+     *
+     * @return the number of rows inserted
+     */
+    long bulkInsert(List<Contact> contacts);
     void deleteById(Long id);
+    void deleteAllById(Collection<Long> ids);
     boolean existsById(Long id);
     Optional<Contact> findById(Long id);
+    List<Contact> findAllById(Collection<Long> ids);
     List<Contact> findAll();
+    /**
+     * Streams every contact in ID order from a database cursor, without keeping the rows read so far.
+     * Must be consumed, and closed, inside a transaction.
+     */
+    Stream<Contact> streamAll();
     Page<Contact> findAll(Pageable pageable);
     List<Contact> findByName(String name);
     Page<Contact> findBySearchTerm(String search, Pageable pageable );
+    List<Contact> findPendingAddress(int limit);
+    boolean updatePendingAddress(Contact contact);
+    List<String> findMostUsedCeps(int limit);
+    long count();
+    /**
+     * Returns a number that changes whenever a transaction writing contacts commits
+     */
+    long getDataVersion();
+    /**
+     * Streams the phone of every contact. Must be consumed, and closed, inside a transaction.
+     */
+    Stream<String> streamPhones();
+    /**
+     * Finds the contacts whose phone, stripped of non-digits, is one of the given digit strings.
+     *
+     * @return contact ID by normalized phone
+     */
+    Map<String, Long> findIdsByNormalizedPhone(Collection<String> phones);
 }
\ No newline at end of file
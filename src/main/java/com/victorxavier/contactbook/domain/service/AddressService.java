@@ -16,13 +16,37 @@ public interface AddressService {
      * Retrieves address information by CEP.
      *
      * @param cep Brazilian postal code (8 digits)
-     * @return AddressInfo containing address details
+     * @return AddressInfo containing address details, or a pending AddressInfo
+     *         when the address could not be resolved right now
      * @throws AddressNotFoundException if CEP is not found
      * @throws ExternalServiceException if external service fails
      * @throws IllegalArgumentException if CEP format is invalid
      */
     AddressInfo getAddressByCep(String cep);
 
+    /**
+     * Retrieves address information by CEP, queuing for the external service in the given lane.
+     * Interactive lookups are always served before bulk ones.
+     *
+     * @param cep Brazilian postal code (8 digits)
+     * @param priority lane used when the external service has to be called
+     * @return AddressInfo containing address details, or a pending AddressInfo
+     *         when the address could not be resolved right now
+     */
+    default AddressInfo getAddressByCep(String cep, LookupPriority priority) {
+        return getAddressByCep(cep);
+    }
+
+    /**
+     * Priority of a lookup when calls to the external service are rate limited.
+     */
+    enum LookupPriority {
+        /** Lookups made while serving an API request */
+        INTERACTIVE,
+        /** Lookups made by imports and background jobs */
+        BULK
+    }
+
     /**
      * Immutable data class containing address information.
      */
@@ -31,12 +55,25 @@ public interface AddressService {
         private final String bairro;
         private final String cidade;
         private final String estado;
+        private final boolean pending;
 
         public AddressInfo(String logradouro, String bairro, String cidade, String estado) {
+            this(logradouro, bairro, cidade, estado, false);
+        }
+
+        private AddressInfo(String logradouro, String bairro, String cidade, String estado, boolean pending) {
             this.logradouro = logradouro;
             this.bairro = bairro;
             this.cidade = cidade;
             this.estado = estado;
+            this.pending = pending;
+        }
+
+        /**
+         * Address placeholder used while the address source is unavailable
+         */
+        public static AddressInfo pending() {
+            return new AddressInfo(null, null, null, null, true);
         }
 
         public String getLogradouro() {
@@ -54,5 +91,9 @@ public interface AddressService {
         public String getEstado() {
             return estado;
         }
+
+        public boolean isPending() {
+            return pending;
+        }
     }
 }
\ No newline at end of file
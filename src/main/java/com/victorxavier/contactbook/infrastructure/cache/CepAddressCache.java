@@ -0,0 +1,100 @@
+package com.victorxavier.contactbook.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.victorxavier.contactbook.domain.service.AddressService.AddressInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded in-memory cache of ViaCEP lookups keyed by clean CEP (8 digits).
+ * Successful lookups live for {@code viacep.cache.ttl}; CEPs that ViaCEP reported
+ * as nonexistent are kept for the shorter {@code viacep.cache.negative-ttl}.
+ * Hit, miss and eviction counters are published as {@code cache.*} metrics
+ * under the {@value #CACHE_NAME} cache name.
+ */
+@Component
+public class CepAddressCache {
+
+    public static final String CACHE_NAME = "cep-address";
+
+    private final Cache<String, Entry> cache;
+
+    public CepAddressCache(MeterRegistry meterRegistry,
+                           @Value("${viacep.cache.maximum-size:10000}") long maximumSize,
+                           @Value("${viacep.cache.ttl:24h}") Duration ttl,
+                           @Value("${viacep.cache.negative-ttl:10m}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EntryExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Entry> get(String cleanCep) {
+        return Optional.ofNullable(cache.getIfPresent(cleanCep));
+    }
+
+    public void putFound(String cleanCep, AddressInfo address) {
+        cache.put(cleanCep, new Entry(address));
+    }
+
+    public void putNotFound(String cleanCep) {
+        cache.put(cleanCep, Entry.NOT_FOUND);
+    }
+
+    /**
+     * Cached outcome of a lookup: either the resolved address or a "not found" marker.
+     */
+    public static final class Entry {
+
+        private static final Entry NOT_FOUND = new Entry(null);
+
+        private final AddressInfo address;
+
+        private Entry(AddressInfo address) {
+            this.address = address;
+        }
+
+        public AddressInfo getAddress() {
+            return address;
+        }
+
+        public boolean isNotFound() {
+            return address == null;
+        }
+    }
+
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        private EntryExpiry(long ttlNanos, long negativeTtlNanos) {
+            this.ttlNanos = ttlNanos;
+            this.negativeTtlNanos = negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            return value.isNotFound() ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
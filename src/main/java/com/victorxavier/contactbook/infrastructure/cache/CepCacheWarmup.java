@@ -0,0 +1,128 @@
+package com.victorxavier.contactbook.infrastructure.cache;
+
+import com.victorxavier.contactbook.domain.repository.ContactRepository;
+import com.victorxavier.contactbook.domain.service.AddressService;
+import com.victorxavier.contactbook.infrastructure.exception.AddressNotFoundException;
+import com.victorxavier.contactbook.infrastructure.exception.ExternalServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Preloads {@link CepAddressCache} after startup with the CEPs already used by stored contacts,
+ * most used first, so the first requests after a deploy do not all miss the cache.
+ * Runs once on a background thread, paced to {@code contactbook.cep-warmup.rate} lookups per second
+ * and using the bulk lane of the ViaCEP rate limiter. Stops early if the address source is unavailable.
+ */
+@Component
+public class CepCacheWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(CepCacheWarmup.class);
+
+    public enum Status { DISABLED, NOT_STARTED, RUNNING, COMPLETED, ABORTED, FAILED }
+
+    private final ContactRepository contactRepository;
+    private final AddressService addressService;
+    private final boolean enabled;
+    private final int maxCeps;
+    private final long pauseNanos;
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger resolved = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile Status status;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    public CepCacheWarmup(ContactRepository contactRepository,
+                          AddressService addressService,
+                          @Value("${contactbook.cep-warmup.enabled:false}") boolean enabled,
+                          @Value("${contactbook.cep-warmup.max-ceps:10000}") int maxCeps,
+                          @Value("${contactbook.cep-warmup.rate:50}") int ratePerSecond) {
+        this.contactRepository = contactRepository;
+        this.addressService = addressService;
+        this.enabled = enabled;
+        this.maxCeps = maxCeps;
+        this.pauseNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        this.status = enabled ? Status.NOT_STARTED : Status.DISABLED;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        status = Status.RUNNING;
+        startedAt = Instant.now();
+        Thread.ofVirtual().name("cep-warmup").start(this::run);
+    }
+
+    private void run() {
+        try {
+            List<String> ceps = contactRepository.findMostUsedCeps(maxCeps);
+            total.set(ceps.size());
+            log.info("CEP cache warm-up started for {} CEPs", ceps.size());
+
+            for (String cep : ceps) {
+                long next = System.nanoTime() + pauseNanos;
+                try {
+                    AddressService.AddressInfo addressInfo =
+                            addressService.getAddressByCep(cep, AddressService.LookupPriority.BULK);
+                    if (addressInfo.isPending()) {
+                        finish(Status.ABORTED);
+                        log.warn("CEP cache warm-up aborted after {} CEPs: address source unavailable", processed.get());
+                        return;
+                    }
+                    resolved.incrementAndGet();
+                } catch (AddressNotFoundException | IllegalArgumentException ex) {
+                    failed.incrementAndGet();
+                } catch (ExternalServiceException ex) {
+                    finish(Status.ABORTED);
+                    log.warn("CEP cache warm-up aborted after {} CEPs: {}", processed.get(), ex.getMessage());
+                    return;
+                }
+                processed.incrementAndGet();
+                LockSupport.parkNanos(next - System.nanoTime());
+            }
+
+            finish(Status.COMPLETED);
+            log.info("CEP cache warm-up completed in {} ms: {} resolved, {} not found",
+                    Duration.between(startedAt, finishedAt).toMillis(), resolved.get(), failed.get());
+        } catch (RuntimeException ex) {
+            finish(Status.FAILED);
+            log.error("CEP cache warm-up failed", ex);
+        }
+    }
+
+    private void finish(Status finalStatus) {
+        finishedAt = Instant.now();
+        status = finalStatus;
+    }
+
+    public boolean isInProgress() {
+        Status current = status;
+        return current == Status.NOT_STARTED || current == Status.RUNNING;
+    }
+
+    public Progress getProgress() {
+        return new Progress(status, total.get(), processed.get(), resolved.get(), failed.get(), startedAt, finishedAt);
+    }
+
+    /**
+     * Snapshot of the warm-up, as reported by the {@code cepwarmup} actuator endpoint.
+     */
+    public record Progress(Status status, int total, int processed, int resolved, int notFound,
+                           Instant startedAt, Instant finishedAt) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.victorxavier.contactbook.infrastructure.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the progress of the startup CEP cache warm-up at {@code /actuator/cepwarmup}.
+ */
+@Component
+@Endpoint(id = "cepwarmup")
+public class CepCacheWarmupEndpoint {
+
+    private final CepCacheWarmup warmup;
+
+    public CepCacheWarmupEndpoint(CepCacheWarmup warmup) {
+        this.warmup = warmup;
+    }
+
+    @ReadOperation
+    public CepCacheWarmup.Progress progress() {
+        return warmup.getProgress();
+    }
+}
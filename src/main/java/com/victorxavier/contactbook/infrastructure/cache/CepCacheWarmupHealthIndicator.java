@@ -0,0 +1,36 @@
+package com.victorxavier.contactbook.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE while the CEP cache warm-up is running, when
+ * {@code contactbook.cep-warmup.gate-readiness} is enabled. Included in the readiness
+ * health group so new instances only receive traffic once the cache is warm.
+ * A warm-up that was aborted or failed releases the gate as well.
+ */
+@Component("cepWarmup")
+public class CepCacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CepCacheWarmup warmup;
+    private final boolean gateReadiness;
+
+    public CepCacheWarmupHealthIndicator(CepCacheWarmup warmup,
+                                         @Value("${contactbook.cep-warmup.gate-readiness:false}") boolean gateReadiness) {
+        this.warmup = warmup;
+        this.gateReadiness = gateReadiness;
+    }
+
+    @Override
+    public Health health() {
+        CepCacheWarmup.Progress progress = warmup.getProgress();
+        Health.Builder builder = gateReadiness && warmup.isInProgress() ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("status", progress.status())
+                .withDetail("processed", progress.processed())
+                .withDetail("total", progress.total())
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.victorxavier.contactbook.infrastructure.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * In-memory bitmaps over the whole 8-digit CEP key space, used to reject CEPs known not to exist
+ * without a cache, database or ViaCEP round-trip.
+ * <p>
+ * Two sources feed the index. An offline dataset can be loaded as authoritative, in which case any
+ * CEP outside it is reported as missing. Otherwise the index learns from lookup results: CEPs that
+ * ViaCEP reported as nonexistent are remembered until {@code viacep.existence-index.missing-ttl}
+ * clears them, and a later successful lookup always wins.
+ * Bitmaps are split into {@value #PAGE_BITS}-bit pages allocated on first write, so a sparse
+ * index costs only the pages it touches (at most about 12.5 MB per bitmap).
+ */
+@Component
+public class CepExistenceIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CepExistenceIndex.class);
+
+    private static final int CEP_SPACE = 100_000_000;
+    private static final int PAGE_BITS = 1 << 16;
+
+    private final boolean enabled;
+    private volatile Bitmap known = new Bitmap();
+    private volatile Bitmap missing = new Bitmap();
+    private volatile boolean authoritative;
+
+    public CepExistenceIndex(MeterRegistry meterRegistry,
+                             @Value("${viacep.existence-index.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        Gauge.builder("cep.existence-index.size", this, index -> index.known.cardinality())
+                .description("CEPs known to exist")
+                .tag("set", "known")
+                .register(meterRegistry);
+        Gauge.builder("cep.existence-index.size", this, index -> index.missing.cardinality())
+                .description("CEPs known not to exist")
+                .tag("set", "missing")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns true if the CEP is known not to exist. Malformed CEPs are never reported as missing,
+     * so callers still get the usual validation error for them.
+     */
+    public boolean isKnownMissing(String cleanCep) {
+        int cep = parse(cleanCep);
+        if (!enabled || cep < 0) {
+            return false;
+        }
+        if (authoritative) {
+            return !known.get(cep);
+        }
+        return missing.get(cep);
+    }
+
+    public void markFound(String cleanCep) {
+        int cep = parse(cleanCep);
+        if (enabled && cep >= 0) {
+            known.set(cep);
+            missing.clear(cep);
+        }
+    }
+
+    public void markMissing(String cleanCep) {
+        int cep = parse(cleanCep);
+        if (enabled && cep >= 0 && !authoritative) {
+            missing.set(cep);
+        }
+    }
+
+    /**
+     * Replaces the known set with every CEP produced by the given source.
+     *
+     * @param source feeds each existing CEP, as an int, to the consumer it is given
+     * @param authoritative whether CEPs outside the source should be reported as missing
+     */
+    public void load(Consumer<IntConsumer> source, boolean authoritative) {
+        if (!enabled) {
+            return;
+        }
+        Bitmap loaded = new Bitmap();
+        source.accept(cep -> {
+            if (cep >= 0 && cep < CEP_SPACE) {
+                loaded.set(cep);
+            }
+        });
+        this.known = loaded;
+        this.authoritative = authoritative;
+        log.info("CEP existence index loaded with {} CEPs (authoritative: {})", loaded.cardinality(), authoritative);
+    }
+
+    @Scheduled(initialDelayString = "${viacep.existence-index.missing-ttl:24h}",
+            fixedDelayString = "${viacep.existence-index.missing-ttl:24h}")
+    public void clearMissing() {
+        missing = new Bitmap();
+    }
+
+    private static int parse(String cleanCep) {
+        if (cleanCep == null || cleanCep.length() != 8) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < 8; i++) {
+            int digit = cleanCep.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static final class Bitmap {
+
+        private final AtomicReferenceArray<AtomicLongArray> pages =
+                new AtomicReferenceArray<>((CEP_SPACE + PAGE_BITS - 1) / PAGE_BITS);
+        private final AtomicInteger cardinality = new AtomicInteger();
+
+        boolean get(int bit) {
+            AtomicLongArray page = pages.get(bit / PAGE_BITS);
+            return page != null && (page.get((bit % PAGE_BITS) >>> 6) & (1L << bit)) != 0;
+        }
+
+        void set(int bit) {
+            AtomicLongArray page = pages.get(bit / PAGE_BITS);
+            if (page == null) {
+                pages.compareAndSet(bit / PAGE_BITS, null, new AtomicLongArray(PAGE_BITS / 64));
+                page = pages.get(bit / PAGE_BITS);
+            }
+            long mask = 1L << bit;
+            long previous = page.getAndAccumulate((bit % PAGE_BITS) >>> 6, mask, (word, m) -> word | m);
+            if ((previous & mask) == 0) {
+                cardinality.incrementAndGet();
+            }
+        }
+
+        void clear(int bit) {
+            AtomicLongArray page = pages.get(bit / PAGE_BITS);
+            if (page == null) {
+                return;
+            }
+            long mask = 1L << bit;
+            long previous = page.getAndAccumulate((bit % PAGE_BITS) >>> 6, mask, (word, m) -> word & ~m);
+            if ((previous & mask) != 0) {
+                cardinality.decrementAndGet();
+            }
+        }
+
+        int cardinality() {
+            return cardinality.get();
+        }
+    }
+}
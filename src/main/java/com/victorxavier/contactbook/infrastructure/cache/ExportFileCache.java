@@ -0,0 +1,208 @@
+package com.victorxavier.contactbook.infrastructure.cache;
+
+import com.victorxavier.contactbook.application.dto.response.ExportedFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+
+/**
+ * Disk cache of rendered exports keyed by format, application build and contact data version, so repeated downloads
+ * of an unchanged contact book are served by copying a file instead of reading and rendering
+ * every contact again.
+ * <p>
+ * A miss renders to the client and to a temporary file at the same time; the file is moved into
+ * place only once the export completed, so a failed or aborted download never leaves a partial
+ * entry behind. Storing a version deletes the older versions of the same format. Concurrent misses
+ * for the same key each render once and the last move wins, which is harmless as their content is
+ * the same. Hits and misses are published as {@code contactbook.export.cache} counters.
+ * <p>
+ * The build is identified by the build time from {@code META-INF/build-info.properties}, or by the
+ * startup time when the application runs without it, so a release that changes how a format is
+ * rendered never serves, or answers 304 for, a file rendered by the previous one.
+ */
+@Component
+public class ExportFileCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportFileCache.class);
+
+    private static final String SUFFIX = ".export";
+
+    private final String buildId;
+    private final boolean enabled;
+    private final Path directory;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public ExportFileCache(MeterRegistry meterRegistry,
+                           ObjectProvider<BuildProperties> buildProperties,
+                           @Value("${contactbook.export-cache.enabled:true}") boolean enabled,
+                           @Value("${contactbook.export-cache.directory:${java.io.tmpdir}/contactbook-export-cache}") Path directory) {
+        this(meterRegistry, buildId(buildProperties.getIfAvailable()), enabled, directory);
+    }
+
+    public ExportFileCache(MeterRegistry meterRegistry, String buildId, boolean enabled, Path directory) {
+        this.buildId = buildId;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.hits = Counter.builder("contactbook.export.cache")
+                .description("Exports served from the export cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("contactbook.export.cache")
+                .description("Exports rendered because the export cache had no entry")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the weak entity tag of an export of the given format and data version by this build
+     */
+    public String entityTag(String format, long version) {
+        return "W/\"" + format + "-" + buildId + "-" + version + "\"";
+    }
+
+    /**
+     * Wraps the renderer of an export so it is served from the cache when an entry exists for the
+     * given format and version, and stored in the cache otherwise.
+     *
+     * @param version a data version the rendered content is at least as recent as
+     */
+    public ExportedFile.ContentWriter cached(String format, long version, ExportedFile.ContentWriter renderer) {
+        if (!enabled) {
+            return renderer;
+        }
+        return output -> {
+            Path entry = directory.resolve(format + "-" + buildId + "-" + version + SUFFIX);
+            if (Files.isRegularFile(entry)) {
+                try {
+                    Files.copy(entry, output);
+                    output.flush();
+                    hits.increment();
+                    return;
+                } catch (NoSuchFileException ex) {
+                    log.debug("Export cache entry {} removed before it could be read", entry.getFileName());
+                }
+            }
+            misses.increment();
+            render(format, version, entry, renderer, output);
+        };
+    }
+
+    private void render(String format, long version, Path entry,
+                        ExportedFile.ContentWriter renderer, OutputStream output) throws IOException {
+        Path temp = createTempFile(format);
+        if (temp == null) {
+            renderer.writeTo(output);
+            return;
+        }
+        boolean stored = false;
+        try {
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024)) {
+                renderer.writeTo(new TeeOutputStream(output, file));
+            }
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            stored = true;
+            log.info("Stored {} export for data version {} in the export cache", format, version);
+        } finally {
+            if (!stored) {
+                Files.deleteIfExists(temp);
+            }
+        }
+        deleteOlderVersions(format, version);
+    }
+
+    private Path createTempFile(String format) {
+        try {
+            Files.createDirectories(directory);
+            return Files.createTempFile(directory, format + "-", ".tmp");
+        } catch (IOException ex) {
+            log.warn("Export cache directory {} is not writable, rendering without cache: {}", directory, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the entries of the format rendered by other builds or for older data versions
+     */
+    private void deleteOlderVersions(String format, long version) {
+        String current = buildId + "-";
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, format + "-*" + SUFFIX)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                String key = name.substring(format.length() + 1, name.length() - SUFFIX.length());
+                if (!key.startsWith(current) || isOlder(key.substring(current.length()), version)) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Could not delete stale {} exports from the export cache: {}", format, ex.getMessage());
+        }
+    }
+
+    private static boolean isOlder(String number, long version) {
+        if (number.isEmpty() || !number.chars().allMatch(Character::isDigit) || number.length() > 18) {
+            return false;
+        }
+        return Long.parseLong(number) < version;
+    }
+
+    private static String buildId(BuildProperties buildProperties) {
+        Instant built = buildProperties != null ? buildProperties.getTime() : null;
+        return Long.toString((built != null ? built : Instant.now()).toEpochMilli(), 36);
+    }
+
+    /**
+     * Copies everything written to both outputs. Only the file is closed; the client
+     * output stays open and is only flushed.
+     */
+    private static final class TeeOutputStream extends FilterOutputStream {
+
+        private final OutputStream file;
+
+        TeeOutputStream(OutputStream client, OutputStream file) {
+            super(client);
+            this.file = file;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            file.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            file.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+            file.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.victorxavier.contactbook.infrastructure.client;
+
+import com.victorxavier.contactbook.domain.service.AddressService.LookupPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket shared by all ViaCEP callers with one waiting lane per {@link LookupPriority}.
+ * Bulk callers only take a token when no interactive caller is waiting, so interactive
+ * traffic always goes first. Each lane has its own queue depth and maximum wait;
+ * callers beyond either limit are rejected.
+ */
+public class PriorityRateLimiter {
+
+    private static final String METRIC_PREFIX = "viacep.ratelimiter";
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final Map<LookupPriority, ViaCepRateLimitProperties.Lane> lanes;
+    private final Map<LookupPriority, Integer> waiting = new EnumMap<>(LookupPriority.class);
+    private final Map<LookupPriority, Timer> waitTimers = new EnumMap<>(LookupPriority.class);
+    private final Map<LookupPriority, Counter> rejections = new EnumMap<>(LookupPriority.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private double tokens;
+    private long lastRefill;
+
+    public PriorityRateLimiter(ViaCepRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.permitsPerNano = properties.getPermitsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1, properties.getBurst());
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+        this.lanes = new EnumMap<>(Map.of(
+                LookupPriority.INTERACTIVE, properties.getInteractive(),
+                LookupPriority.BULK, properties.getBulk()));
+
+        for (LookupPriority lane : LookupPriority.values()) {
+            String tag = lane.name().toLowerCase();
+            waiting.put(lane, 0);
+            waitTimers.put(lane, Timer.builder(METRIC_PREFIX + ".wait")
+                    .description("Time spent waiting for a ViaCEP call permit")
+                    .tag("lane", tag)
+                    .register(meterRegistry));
+            rejections.put(lane, Counter.builder(METRIC_PREFIX + ".rejected")
+                    .description("ViaCEP calls rejected because the lane queue was full or the wait timed out")
+                    .tag("lane", tag)
+                    .register(meterRegistry));
+            Gauge.builder(METRIC_PREFIX + ".waiting", this, limiter -> limiter.waitingIn(lane))
+                    .description("Callers waiting for a ViaCEP call permit")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+        }
+        Gauge.builder(METRIC_PREFIX + ".available", this, PriorityRateLimiter::availableTokens)
+                .description("Permits currently available in the ViaCEP token bucket")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Waits for a permit in the given lane.
+     *
+     * @return true if a permit was taken, false if the lane is full or the maximum wait elapsed
+     */
+    public boolean acquire(LookupPriority lane) {
+        ViaCepRateLimitProperties.Lane settings = lanes.get(lane);
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            if (waiting.get(lane) >= settings.getMaxQueue()) {
+                rejections.get(lane).increment();
+                return false;
+            }
+            waiting.merge(lane, 1, Integer::sum);
+            try {
+                long deadline = start + settings.getMaxWait().toNanos();
+                while (true) {
+                    long now = System.nanoTime();
+                    refill(now);
+                    boolean laneMayTake = lane == LookupPriority.INTERACTIVE
+                            || waiting.get(LookupPriority.INTERACTIVE) == 0;
+                    if (laneMayTake && tokens >= 1) {
+                        tokens -= 1;
+                        waitTimers.get(lane).record(now - start, TimeUnit.NANOSECONDS);
+                        return true;
+                    }
+                    long remaining = deadline - now;
+                    if (remaining <= 0) {
+                        rejections.get(lane).increment();
+                        return false;
+                    }
+                    long untilNextToken = tokens >= 1 ? remaining : (long) Math.ceil((1 - tokens) / permitsPerNano);
+                    changed.awaitNanos(Math.min(remaining, Math.max(untilNextToken, 1)));
+                }
+            } finally {
+                waiting.merge(lane, -1, Integer::sum);
+                changed.signalAll();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            rejections.get(lane).increment();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+    }
+
+    private double waitingIn(LookupPriority lane) {
+        lock.lock();
+        try {
+            return waiting.get(lane);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double availableTokens() {
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            return Math.floor(tokens);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.victorxavier.contactbook.infrastructure.client;
+
+import com.victorxavier.contactbook.domain.service.AddressService.AddressInfo;
+import com.victorxavier.contactbook.domain.service.AddressService.LookupPriority;
+import com.victorxavier.contactbook.infrastructure.client.response.AddressResponse;
+import com.victorxavier.contactbook.infrastructure.exception.AddressNotFoundException;
+import com.victorxavier.contactbook.infrastructure.exception.ExternalServiceException;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards calls to {@link ViaCepClient} with a priority-aware rate limiter, a bulkhead limiting concurrent calls and a
+ * circuit breaker that stops calling ViaCEP while it is failing or slow, probing it again
+ * with a few half-open calls. Per-call timeouts are the Feign client timeouts
+ * ({@code spring.cloud.openfeign.client.config.viaCep}).
+ */
+@Component
+public class ViaCepGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(ViaCepGateway.class);
+    private static final String NAME = "viaCep";
+
+    private final ViaCepClient viaCepClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final PriorityRateLimiter rateLimiter;
+
+    public ViaCepGateway(ViaCepClient viaCepClient,
+                         ViaCepResilienceProperties properties,
+                         ViaCepRateLimitProperties rateLimitProperties,
+                         MeterRegistry meterRegistry) {
+        this.viaCepClient = viaCepClient;
+        this.rateLimiter = rateLimitProperties.isEnabled()
+                ? new PriorityRateLimiter(rateLimitProperties, meterRegistry)
+                : null;
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumCalls())
+                .waitDurationInOpenState(properties.getWaitInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.getHalfOpenCalls())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordExceptions(ExternalServiceException.class)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(properties.getMaxWait())
+                .build());
+
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("ViaCEP circuit breaker transition: {}", event.getStateTransition()));
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    /**
+     * Fetches the address for a clean CEP from ViaCEP.
+     *
+     * @throws AddressNotFoundException if ViaCEP does not know the CEP
+     * @throws ExternalServiceException if ViaCEP fails, times out or the call is shed by the
+     *         rate limiter, circuit breaker or bulkhead
+     */
+    public AddressInfo fetch(String cep, String cleanCep, LookupPriority priority) {
+        // The breaker permission is taken before waiting for a rate limit token, so calls shed
+        // while the circuit is open never use up tokens the interactive lane could have had
+        if (!circuitBreaker.tryAcquirePermission()) {
+            log.warn("ViaCEP circuit open, skipping lookup for CEP: {}", cleanCep);
+            throw ExternalServiceException.viaCepUnavailable();
+        }
+        if (rateLimiter != null && !rateLimiter.acquire(priority)) {
+            circuitBreaker.releasePermission();
+            log.warn("ViaCEP rate limit reached for {} lookup of CEP: {}", priority, cleanCep);
+            throw ExternalServiceException.viaCepUnavailable();
+        }
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, () -> fetchRecorded(cep, cleanCep)).get();
+        } catch (BulkheadFullException ex) {
+            circuitBreaker.releasePermission();
+            log.warn("ViaCEP bulkhead full, skipping lookup for CEP: {}", cleanCep);
+            throw ExternalServiceException.viaCepUnavailable();
+        }
+    }
+
+    /**
+     * Calls ViaCEP under the breaker permission already taken by {@link #fetch}, recording the
+     * outcome and duration as {@link CircuitBreaker#decorateSupplier} would
+     */
+    private AddressInfo fetchRecorded(String cep, String cleanCep) {
+        long start = System.nanoTime();
+        try {
+            AddressInfo address = fetchDirect(cep, cleanCep);
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return address;
+        } catch (RuntimeException ex) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, ex);
+            throw ex;
+        }
+    }
+
+    private AddressInfo fetchDirect(String cep, String cleanCep) {
+        log.info("Fetching address for CEP: {}", cep);
+
+        try {
+            AddressResponse response = viaCepClient.getAddress(cleanCep);
+
+            if (response == null || isInvalidResponse(response)) {
+                log.warn("CEP not found or invalid response for CEP: {}", cleanCep);
+                throw new AddressNotFoundException("CEP não encontrado: " + cep);
+            }
+
+            log.info("Address found successfully for CEP: {}", cleanCep);
+
+            return new AddressInfo(
+                    response.getLogradouro(),
+                    response.getBairro(),
+                    response.getCidade(),
+                    response.getEstado()
+            );
+
+        } catch (FeignException.NotFound ex) {
+            log.warn("CEP not found (Feign): {}", cleanCep);
+            throw new AddressNotFoundException("CEP não encontrado: " + cep);
+
+        } catch (RetryableException ex) {
+            log.error("Timeout or I/O error calling ViaCEP for CEP: {}: {}", cleanCep, ex.getMessage());
+            throw ExternalServiceException.viaCepTimeout();
+
+        } catch (FeignException ex) {
+            log.error("External service error for CEP: {}, status: {}", cleanCep, ex.status());
+            throw new ExternalServiceException("Erro no serviço de consulta de CEP. Tente novamente mais tarde.");
+
+        } catch (AddressNotFoundException | IllegalArgumentException ex) {
+            // Re-throw domain exceptions
+            throw ex;
+
+        } catch (Exception ex) {
+            log.error("Unexpected error fetching address for CEP: {}", cleanCep, ex);
+            throw new ExternalServiceException("Erro inesperado ao buscar endereço para o CEP: " + cep);
+        }
+    }
+
+    private boolean isInvalidResponse(AddressResponse response) {
+        if (Boolean.TRUE.equals(response.getErro())) {
+            return true;
+        }
+        return response.getLogradouro() == null ||
+                response.getLogradouro().trim().isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+package com.victorxavier.contactbook.infrastructure.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Token bucket settings for outbound ViaCEP calls, with separate queue limits per priority lane
+ */
+@ConfigurationProperties(prefix = "viacep.rate-limit")
+public class ViaCepRateLimitProperties {
+
+    private boolean enabled = true;
+    private double permitsPerSecond = 20;
+    private int burst = 20;
+    private Lane interactive = new Lane(50, Duration.ofMillis(500));
+    private Lane bulk = new Lane(1000, Duration.ofSeconds(30));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public void setPermitsPerSecond(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public Lane getInteractive() {
+        return interactive;
+    }
+
+    public void setInteractive(Lane interactive) {
+        this.interactive = interactive;
+    }
+
+    public Lane getBulk() {
+        return bulk;
+    }
+
+    public void setBulk(Lane bulk) {
+        this.bulk = bulk;
+    }
+
+    public static class Lane {
+
+        private int maxQueue;
+        private Duration maxWait;
+
+        public Lane() {}
+
+        public Lane(int maxQueue, Duration maxWait) {
+            this.maxQueue = maxQueue;
+            this.maxWait = maxWait;
+        }
+
+        public int getMaxQueue() {
+            return maxQueue;
+        }
+
+        public void setMaxQueue(int maxQueue) {
+            this.maxQueue = maxQueue;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+}
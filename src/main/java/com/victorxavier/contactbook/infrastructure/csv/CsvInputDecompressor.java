@@ -0,0 +1,119 @@
+package com.victorxavier.contactbook.infrastructure.csv;
+
+import com.victorxavier.contactbook.infrastructure.exception.CsvProcessingException;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Recognizes gzip and zip uploads by their magic bytes, whatever the file name says, and
+ * decompresses them on the fly. Nothing is written to disk and memory use does not depend
+ * on the file size. Any other input is returned unchanged.
+ * <p>
+ * Decompressed content is capped, so a small archive cannot expand into an import that occupies
+ * the import worker, and ViaCEP, for hours.
+ */
+public final class CsvInputDecompressor {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private CsvInputDecompressor() {}
+
+    /**
+     * Returns a stream of the CSV text inside the input. For a zip archive this is the first file
+     * entry, skipping directories and metadata entries such as {@code __MACOSX/}.
+     *
+     * @param maxDecompressedBytes size above which reading compressed input fails with a
+     *        {@link CsvProcessingException}
+     */
+    public static InputStream open(InputStream input, String fileName, long maxDecompressedBytes) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input, BUFFER_SIZE);
+        buffered.mark(4);
+        int b0 = buffered.read();
+        int b1 = buffered.read();
+        int b2 = buffered.read();
+        int b3 = buffered.read();
+        buffered.reset();
+
+        if (b0 == 0x1F && b1 == 0x8B) {
+            return new LimitedInputStream(new GZIPInputStream(buffered, BUFFER_SIZE), fileName, maxDecompressedBytes);
+        }
+        if (b0 == 'P' && b1 == 'K' && b2 == 0x03 && b3 == 0x04) {
+            return new LimitedInputStream(firstZipEntry(new ZipInputStream(buffered), fileName),
+                    fileName, maxDecompressedBytes);
+        }
+        return buffered;
+    }
+
+    private static InputStream firstZipEntry(ZipInputStream zip, String fileName) throws IOException {
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            String name = entry.getName();
+            String baseName = name.substring(name.lastIndexOf('/') + 1);
+            if (!entry.isDirectory() && !name.startsWith("__MACOSX/") && !baseName.startsWith(".")) {
+                return zip;
+            }
+        }
+        zip.close();
+        throw new CsvProcessingException("O arquivo ZIP não contém nenhum arquivo CSV", fileName, null);
+    }
+
+    /**
+     * Fails once more than the allowed number of bytes has been read
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final String fileName;
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, String fileName, long limit) {
+            super(in);
+            this.fileName = fileName;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long bytes) {
+            count += bytes;
+            if (count > limit) {
+                throw new CsvProcessingException(String.format(
+                        "O conteúdo descompactado excede o limite de %d MB", limit / (1024 * 1024)), fileName, null);
+            }
+        }
+    }
+}
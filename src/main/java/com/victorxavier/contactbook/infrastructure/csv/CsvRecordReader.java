@@ -0,0 +1,209 @@
+package com.victorxavier.contactbook.infrastructure.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Streaming RFC 4180 CSV reader. Supports quoted fields containing delimiters, escaped quotes
+ * ({@code ""}) and line breaks, and accepts CRLF, LF or CR record separators.
+ * <p>
+ * Input is read through a fixed buffer and the characters of the current record are kept in a
+ * second reusable buffer, so advancing to the next record allocates nothing; a String is only
+ * created when {@link #field(int)} is called. A leading byte order mark is skipped.
+ * Instances are not thread-safe.
+ */
+public final class CsvRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char QUOTE = '"';
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private char[] recordChars = new char[256];
+    private int recordLength;
+    private int[] fieldEnds = new int[16];
+    private int fieldCount;
+
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    public CsvRecordReader(Reader reader, char delimiter) {
+        if (delimiter == QUOTE || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("Invalid CSV delimiter: " + delimiter);
+        }
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return false when the end of the input has been reached
+     */
+    public boolean next() throws IOException {
+        recordLength = 0;
+        fieldCount = 0;
+        recordLine = line;
+
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == BOM) {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return false;
+        }
+
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    endField();
+                    return true;
+                }
+                if (c == QUOTE) {
+                    if (peek() == QUOTE) {
+                        position++;
+                        append(QUOTE);
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\n' || peek() != '\n') {
+                        line++;
+                    }
+                    append((char) c);
+                } else {
+                    appendRun((char) c, true);
+                }
+            } else if (c == delimiter) {
+                endField();
+            } else if (c == '\n' || c == -1) {
+                endField();
+                line++;
+                return true;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    position++;
+                }
+                endField();
+                line++;
+                return true;
+            } else if (c == QUOTE && recordLength == fieldStart()) {
+                quoted = true;
+            } else {
+                appendRun((char) c, false);
+            }
+            c = read();
+        }
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Returns the given field of the current record, or null when the record has fewer fields
+     */
+    public String field(int index) {
+        if (index < 0 || index >= fieldCount) {
+            return null;
+        }
+        int start = index == 0 ? 0 : fieldEnds[index - 1];
+        return new String(recordChars, start, fieldEnds[index] - start);
+    }
+
+    /**
+     * Returns true when the current record is an empty line
+     */
+    public boolean isEmptyLine() {
+        return fieldCount == 1 && recordLength == 0;
+    }
+
+    /**
+     * Returns the 1-based line on which the current record starts
+     */
+    public long lineNumber() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int fieldStart() {
+        return fieldCount == 0 ? 0 : fieldEnds[fieldCount - 1];
+    }
+
+    private void endField() {
+        if (fieldCount == fieldEnds.length) {
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldEnds[fieldCount++] = recordLength;
+    }
+
+    private void append(char c) {
+        if (recordLength == recordChars.length) {
+            recordChars = Arrays.copyOf(recordChars, recordLength * 2);
+        }
+        recordChars[recordLength++] = c;
+    }
+
+    /**
+     * Appends the given character followed by the run of ordinary characters after it in the buffer,
+     * copied in one block. Stops at quotes and line breaks, and at delimiters outside quotes.
+     */
+    private void appendRun(char first, boolean quoted) {
+        int end = position;
+        while (end < limit) {
+            char c = buffer[end];
+            if (c == QUOTE || c == '\n' || c == '\r' || (!quoted && c == delimiter)) {
+                break;
+            }
+            end++;
+        }
+        int length = end - position;
+        if (recordLength + length + 1 > recordChars.length) {
+            recordChars = Arrays.copyOf(recordChars, Math.max(recordChars.length * 2, recordLength + length + 1));
+        }
+        recordChars[recordLength++] = first;
+        System.arraycopy(buffer, position, recordChars, recordLength, length);
+        recordLength += length;
+        position = end;
+    }
+
+    private int read() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+}
@@ -0,0 +1,106 @@
+package com.victorxavier.contactbook.infrastructure.dataset;
+
+import com.victorxavier.contactbook.domain.service.AddressService.AddressInfo;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+
+/**
+ * Read-only view over a compiled CEP dataset mapped into memory.
+ * <p>
+ * Layout: a {@value #HEADER_SIZE}-byte header (magic, version, entry count, pool offset),
+ * then one {@value #ENTRY_SIZE}-byte entry per CEP sorted ascending
+ * ({@code int cep} followed by {@code int} offsets of logradouro, bairro, cidade and uf),
+ * then the string pool of length-prefixed UTF-8 values. Lookups binary-search the
+ * mapped index directly, so no objects are held per entry.
+ */
+public final class CepDataset {
+
+    static final int MAGIC = 0x43455044; // "CEPD"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int FIELDS = 4;
+    static final int ENTRY_SIZE = 4 + FIELDS * 4;
+
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final int poolOffset;
+
+    private CepDataset(MappedByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Arquivo de CEPs compilado inválido ou de versão incompatível");
+        }
+        this.buffer = buffer;
+        this.count = buffer.getInt(8);
+        this.poolOffset = (int) buffer.getLong(16);
+    }
+
+    public static CepDataset open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new CepDataset(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Feeds every CEP in the dataset, in ascending order, to the given consumer
+     */
+    public void forEachCep(IntConsumer consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept(buffer.getInt(HEADER_SIZE + i * ENTRY_SIZE));
+        }
+    }
+
+    /**
+     * Returns the address for the given clean CEP, or null when the dataset does not contain it
+     */
+    public AddressInfo find(String cleanCep) {
+        int index = indexOf(Integer.parseInt(cleanCep));
+        if (index < 0) {
+            return null;
+        }
+        int entry = HEADER_SIZE + index * ENTRY_SIZE + 4;
+        return new AddressInfo(
+                readString(buffer.getInt(entry)),
+                readString(buffer.getInt(entry + 4)),
+                readString(buffer.getInt(entry + 8)),
+                readString(buffer.getInt(entry + 12))
+        );
+    }
+
+    private int indexOf(int cep) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = buffer.getInt(HEADER_SIZE + mid * ENTRY_SIZE);
+            if (value < cep) {
+                low = mid + 1;
+            } else if (value > cep) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private String readString(int offset) {
+        int position = poolOffset + offset;
+        int length = ((buffer.get(position) & 0xFF) << 8) | (buffer.get(position + 1) & 0xFF);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
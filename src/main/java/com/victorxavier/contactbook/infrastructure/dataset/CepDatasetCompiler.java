@@ -0,0 +1,164 @@
+package com.victorxavier.contactbook.infrastructure.dataset;
+
+import com.victorxavier.contactbook.infrastructure.csv.CsvRecordReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compiles a postal dataset in CSV form ({@code cep,logradouro,bairro,cidade,uf},
+ * with a header line, read with {@link CsvRecordReader} so quoted values may contain the
+ * delimiter) into the binary layout read by {@link CepDataset}:
+ * a fixed-size header, an index of fixed-width entries sorted by CEP and a
+ * pool of deduplicated, length-prefixed UTF-8 strings. Values longer than 65535 bytes are
+ * cut at the last whole character that fits.
+ */
+public final class CepDatasetCompiler {
+
+    private static final Logger log = LoggerFactory.getLogger(CepDatasetCompiler.class);
+
+    private static final int COLUMNS = 5;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private CepDatasetCompiler() {}
+
+    public static int compile(Path source, Path target, char delimiter) throws IOException {
+        log.info("Compiling CEP dataset from {} into {}", source, target);
+
+        StringPool pool = new StringPool();
+        int[] ceps = new int[1024];
+        int[] offsets = new int[1024 * CepDataset.FIELDS];
+        int count = 0;
+
+        try (CsvRecordReader reader = new CsvRecordReader(
+                Files.newBufferedReader(source, StandardCharsets.UTF_8), delimiter)) {
+            boolean header = true;
+            while (reader.next()) {
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                if (reader.isEmptyLine()) {
+                    continue;
+                }
+                String cep = reader.field(0).replaceAll("[^0-9]", "");
+                if (reader.fieldCount() < COLUMNS || cep.length() != 8) {
+                    log.warn("Skipping malformed dataset line {}", reader.lineNumber());
+                    continue;
+                }
+                if (count == ceps.length) {
+                    ceps = Arrays.copyOf(ceps, count * 2);
+                    offsets = Arrays.copyOf(offsets, count * 2 * CepDataset.FIELDS);
+                }
+                ceps[count] = Integer.parseInt(cep);
+                for (int field = 0; field < CepDataset.FIELDS; field++) {
+                    offsets[count * CepDataset.FIELDS + field] = pool.offsetOf(reader.field(field + 1).trim());
+                }
+                count++;
+            }
+        }
+
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) ceps[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tmp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        int written = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            int unique = countUnique(order);
+            out.writeInt(CepDataset.MAGIC);
+            out.writeInt(CepDataset.VERSION);
+            out.writeInt(unique);
+            out.writeInt(0);
+            out.writeLong(CepDataset.HEADER_SIZE + (long) unique * CepDataset.ENTRY_SIZE);
+            out.writeLong(0);
+
+            for (int i = 0; i < count; i++) {
+                // Keep the last row for a repeated CEP
+                if (i + 1 < count && (order[i + 1] >>> 32) == (order[i] >>> 32)) {
+                    continue;
+                }
+                int row = (int) order[i];
+                out.writeInt(ceps[row]);
+                for (int field = 0; field < CepDataset.FIELDS; field++) {
+                    out.writeInt(offsets[row * CepDataset.FIELDS + field]);
+                }
+                written++;
+            }
+            pool.writeTo(out);
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        log.info("CEP dataset compiled: {} entries, {} pool bytes", written, pool.size());
+        return written;
+    }
+
+    private static int countUnique(long[] order) {
+        int unique = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (i + 1 == order.length || (order[i + 1] >>> 32) != (order[i] >>> 32)) {
+                unique++;
+            }
+        }
+        return unique;
+    }
+
+    private static final class StringPool {
+
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        int offsetOf(String value) {
+            Integer existing = offsets.get(value);
+            if (existing != null) {
+                return existing;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            if (encoded.length > MAX_STRING_BYTES) {
+                encoded = Arrays.copyOf(encoded, characterBoundary(encoded, MAX_STRING_BYTES));
+            }
+            int offset = bytes.size();
+            bytes.write(encoded.length >>> 8);
+            bytes.write(encoded.length);
+            bytes.writeBytes(encoded);
+            offsets.put(value, offset);
+            return offset;
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        /**
+         * Returns the largest length up to {@code limit} that does not split a UTF-8 sequence,
+         * stepping back over continuation bytes ({@code 10xxxxxx})
+         */
+        private static int characterBoundary(byte[] encoded, int limit) {
+            int end = limit;
+            while (end > 0 && (encoded[end] & 0xC0) == 0x80) {
+                end--;
+            }
+            return end;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            bytes.writeTo(out);
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -20,6 +22,7 @@ import java.util.UUID;
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final String PHONE_UNIQUE_INDEX = "ux_contact_book_tb_phone_digits";
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ValidationError> handleHttpMessageNotReadable(
@@ -144,6 +147,78 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<StandardError> handleImportJobNotFound(
+            ImportJobNotFoundException ex, HttpServletRequest request) {
+
+        String correlationId = generateCorrelationId();
+        log.warn("Import job not found [{}]: {} (Job: {})",
+                correlationId, ex.getMessage(), ex.getJobId());
+
+        StandardError error = new StandardError(
+                HttpStatus.NOT_FOUND.value(),
+                "Resource Not Found",
+                ex.getMessage(),
+                request.getRequestURI(),
+                correlationId
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(ImportJobRejectedException.class)
+    public ResponseEntity<StandardError> handleImportJobRejected(
+            ImportJobRejectedException ex, HttpServletRequest request) {
+
+        String correlationId = generateCorrelationId();
+        log.warn("Import job rejected [{}]: {}", correlationId, ex.getMessage());
+
+        StandardError error = new StandardError(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getRequestURI(),
+                correlationId
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    /**
+     * Answers 409 for a phone already used by another contact. Other integrity violations are
+     * bugs rather than conflicts and are reported as internal errors.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<StandardError> handleDataIntegrityViolation(
+            DataIntegrityViolationException ex, HttpServletRequest request) {
+
+        if (!PHONE_UNIQUE_INDEX.equalsIgnoreCase(constraintName(ex))) {
+            return handleRuntimeException(ex, request);
+        }
+
+        String correlationId = generateCorrelationId();
+        log.warn("Duplicate phone [{}]: {}", correlationId, ex.getMostSpecificCause().getMessage());
+
+        StandardError error = new StandardError(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "Já existe um contato com este telefone",
+                request.getRequestURI(),
+                correlationId
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    private String constraintName(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null && cause.getCause() != cause; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName();
+            }
+        }
+        return null;
+    }
+
     @ExceptionHandler(AddressNotFoundException.class)
     public ResponseEntity<StandardError> handleAddressNotFound(
             AddressNotFoundException ex, HttpServletRequest request) {
@@ -0,0 +1,27 @@
+package com.victorxavier.contactbook.infrastructure.exception;
+
+/**
+ * Exception thrown when an import job is unknown or has already been purged.
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String jobId;
+
+    public ImportJobNotFoundException(String message, String jobId) {
+        super(message);
+        this.jobId = jobId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public static ImportJobNotFoundException byId(String jobId) {
+        return new ImportJobNotFoundException(
+                String.format("Importação não encontrada com ID: %s", jobId),
+                jobId
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.victorxavier.contactbook.infrastructure.exception;
+
+/**
+ * Exception thrown when an import cannot be queued because the import workers are saturated.
+ */
+public class ImportJobRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ImportJobRejectedException(String message) {
+        super(message);
+    }
+
+    public static ImportJobRejectedException queueFull() {
+        return new ImportJobRejectedException(
+                "Muitas importações em andamento. Tente novamente mais tarde."
+        );
+    }
+}
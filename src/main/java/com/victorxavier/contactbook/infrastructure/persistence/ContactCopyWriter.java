@@ -0,0 +1,135 @@
+package com.victorxavier.contactbook.infrastructure.persistence;
+
+import com.victorxavier.contactbook.domain.entity.Contact;
+import com.victorxavier.contactbook.infrastructure.persistence.entity.ContactJpaEntity;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Bulk-loads contacts into {@code contact_book_tb} with PostgreSQL {@code COPY ... FROM STDIN},
+ * streaming rows as CSV over a single round-trip instead of one INSERT per row.
+ * Uses the connection bound to the current transaction, so the copy commits or rolls back with it.
+ * Ids are reserved up front from the same pooled sequence Hibernate uses, one {@code nextval}
+ * per {@value ContactJpaEntity#ID_ALLOCATION_SIZE} contacts, and assigned to the given contacts.
+ */
+@Component
+public class ContactCopyWriter {
+
+    private static final String COPY_SQL = "COPY contact_book_tb " +
+            "(id, name, phone, cep, logradouro, numero, bairro, cidade, estado, address_status) " +
+            "FROM STDIN WITH (FORMAT csv)";
+    private static final String RESERVE_IDS_SQL =
+            "SELECT nextval('" + ContactJpaEntity.ID_SEQUENCE + "') FROM generate_series(1, ?)";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    public ContactCopyWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Copies the given contacts and returns the number of rows written
+     */
+    public long copy(List<Contact> contacts) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            reserveIds(connection, contacts);
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            PGCopyOutputStream copy = new PGCopyOutputStream(pgConnection, COPY_SQL, BUFFER_SIZE);
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), BUFFER_SIZE);
+                for (Contact contact : contacts) {
+                    writer.write(Long.toString(contact.getId()));
+                    writer.write(',');
+                    writeText(writer, contact.getName());
+                    writer.write(',');
+                    writeText(writer, contact.getPhone());
+                    writer.write(',');
+                    writeText(writer, contact.getCep());
+                    writer.write(',');
+                    writeText(writer, contact.getLogradouro());
+                    writer.write(',');
+                    if (contact.getNumero() != null) {
+                        writer.write(Integer.toString(contact.getNumero()));
+                    }
+                    writer.write(',');
+                    writeText(writer, contact.getBairro());
+                    writer.write(',');
+                    writeText(writer, contact.getCidade());
+                    writer.write(',');
+                    writeText(writer, contact.getEstado());
+                    writer.write(',');
+                    writer.write(contact.getAddressStatus().name());
+                    writer.write('\n');
+                }
+                writer.flush();
+                return copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+        } catch (SQLException | IOException ex) {
+            throw new DataAccessResourceFailureException("Falha ao copiar contatos para o banco de dados", ex);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Assigns ids to the contacts from blocks reserved on the id sequence. With the pooled
+     * optimizer each sequence value is the last id of a block of the allocation size.
+     */
+    private static void reserveIds(Connection connection, List<Contact> contacts) throws SQLException {
+        int blocks = (contacts.size() + ContactJpaEntity.ID_ALLOCATION_SIZE - 1) / ContactJpaEntity.ID_ALLOCATION_SIZE;
+        int index = 0;
+        try (PreparedStatement statement = connection.prepareStatement(RESERVE_IDS_SQL)) {
+            statement.setInt(1, blocks);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next() && index < contacts.size()) {
+                    long high = resultSet.getLong(1);
+                    for (long id = high - ContactJpaEntity.ID_ALLOCATION_SIZE + 1; id <= high && index < contacts.size(); id++) {
+                        contacts.get(index++).setId(id);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a CSV value: null as an unquoted empty field (SQL NULL), anything else quoted
+     * with embedded quotes doubled, so empty strings and delimiters survive the copy
+     */
+    private static void writeText(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        writer.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                writer.write(value, start, i - start + 1);
+                writer.write('"');
+                start = i + 1;
+            }
+        }
+        writer.write(value, start, value.length() - start);
+        writer.write('"');
+    }
+}
@@ -0,0 +1,54 @@
+package com.victorxavier.contactbook.infrastructure.persistence;
+
+import com.victorxavier.contactbook.infrastructure.persistence.repository.ContactJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Table-level change version of the contacts, kept in the {@code contact_book_version} row so
+ * every instance sees the same value. Writes mark the version as changed, and it is incremented
+ * once per transaction, as the last statement before commit: the new value becomes visible
+ * together with the data, and the row lock is held only for the duration of the commit.
+ */
+@Component
+public class ContactDataVersion {
+
+    private static final Object PENDING_KEY = new Object();
+
+    private final ContactJpaRepository jpaRepository;
+
+    public ContactDataVersion(ContactJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    public long current() {
+        return jpaRepository.findDataVersion();
+    }
+
+    /**
+     * Records that contacts were written. Outside a transaction the version is incremented right away.
+     */
+    public void markChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            jpaRepository.incrementDataVersion();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(PENDING_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PENDING_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                jpaRepository.incrementDataVersion();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.victorxavier.contactbook.infrastructure.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs short, explicitly delimited database transactions and records how long each one
+ * held its pooled connection in the {@code contactbook.db.transaction} timer, tagged by
+ * operation and outcome. Callers resolve anything slow (e.g. ViaCEP lookups) before
+ * entering the transaction.
+ */
+@Component
+public class TransactionRunner {
+
+    private static final String METRIC_NAME = "contactbook.db.transaction";
+
+    private final TransactionTemplate writeTemplate;
+    private final TransactionTemplate readTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public TransactionRunner(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T write(String operation, Supplier<T> work) {
+        return execute(writeTemplate, operation, work);
+    }
+
+    public void write(String operation, Runnable work) {
+        execute(writeTemplate, operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public <T> T read(String operation, Supplier<T> work) {
+        return execute(readTemplate, operation, work);
+    }
+
+    private <T> T execute(TransactionTemplate template, String operation, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return template.execute(status -> work.get());
+        } catch (RuntimeException ex) {
+            outcome = "error";
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Time a database transaction held its connection")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
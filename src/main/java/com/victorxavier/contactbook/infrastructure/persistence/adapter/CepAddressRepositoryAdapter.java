@@ -0,0 +1,38 @@
+package com.victorxavier.contactbook.infrastructure.persistence.adapter;
+
+import com.victorxavier.contactbook.domain.entity.CepAddress;
+import com.victorxavier.contactbook.domain.repository.CepAddressRepository;
+import com.victorxavier.contactbook.infrastructure.persistence.mapper.CepAddressPersistenceMapper;
+import com.victorxavier.contactbook.infrastructure.persistence.repository.CepAddressJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class CepAddressRepositoryAdapter implements CepAddressRepository {
+
+    private final CepAddressJpaRepository jpaRepository;
+    private final CepAddressPersistenceMapper mapper;
+
+    public CepAddressRepositoryAdapter(CepAddressJpaRepository jpaRepository, CepAddressPersistenceMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<CepAddress> findByCep(String cep) {
+        return jpaRepository.findById(cep).map(mapper::toDomainEntity);
+    }
+
+    @Override
+    public void save(CepAddress cepAddress) {
+        jpaRepository.upsert(
+                cepAddress.getCep(),
+                cepAddress.getLogradouro(),
+                cepAddress.getBairro(),
+                cepAddress.getCidade(),
+                cepAddress.getEstado(),
+                cepAddress.getUpdatedAt()
+        );
+    }
+}
@@ -1,33 +1,52 @@
 package com.victorxavier.contactbook.infrastructure.persistence.adapter;
 
+import com.victorxavier.contactbook.domain.entity.AddressStatus;
 import com.victorxavier.contactbook.domain.entity.Contact;
 import com.victorxavier.contactbook.domain.repository.ContactRepository;
+import com.victorxavier.contactbook.infrastructure.persistence.ContactCopyWriter;
+import com.victorxavier.contactbook.infrastructure.persistence.ContactDataVersion;
 import com.victorxavier.contactbook.infrastructure.persistence.entity.ContactJpaEntity;
 import com.victorxavier.contactbook.infrastructure.persistence.mapper.ContactPersistenceMapper;
 import com.victorxavier.contactbook.infrastructure.persistence.repository.ContactJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class ContactRepositoryAdapter implements ContactRepository {
 
     private final ContactJpaRepository jpaRepository;
     private final ContactPersistenceMapper mapper;
+    private final ContactCopyWriter copyWriter;
+    private final EntityManager entityManager;
+    private final ContactDataVersion dataVersion;
 
-    public ContactRepositoryAdapter(ContactJpaRepository jpaRepository, ContactPersistenceMapper mapper) {
+    public ContactRepositoryAdapter(ContactJpaRepository jpaRepository,
+                                    ContactPersistenceMapper mapper,
+                                    ContactCopyWriter copyWriter,
+                                    EntityManager entityManager,
+                                    ContactDataVersion dataVersion) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.copyWriter = copyWriter;
+        this.entityManager = entityManager;
+        this.dataVersion = dataVersion;
     }
 
     @Override
     public Contact save(Contact contact) {
         ContactJpaEntity jpaEntity = mapper.toJpaEntity(contact);
         ContactJpaEntity savedEntity = jpaRepository.save(jpaEntity);
+        dataVersion.markChanged();
         return mapper.toDomainEntity(savedEntity);
     }
 
@@ -35,12 +54,27 @@ public class ContactRepositoryAdapter implements ContactRepository {
     public List<Contact> saveAll(List<Contact> contacts) {
         List<ContactJpaEntity> jpaEntities = contacts.stream().map(mapper::toJpaEntity).collect(Collectors.toList());
         List<ContactJpaEntity> savedEntities = jpaRepository.saveAll(jpaEntities);
+        dataVersion.markChanged();
         return savedEntities.stream().map(mapper::toDomainEntity).collect(Collectors.toList());
     }
 
+    @Override
+    public long bulkInsert(List<Contact> contacts) {
+        long inserted = copyWriter.copy(contacts);
+        dataVersion.markChanged();
+        return inserted;
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
+        dataVersion.markChanged();
+    }
+
+    @Override
+    public void deleteAllById(Collection<Long> ids) {
+        jpaRepository.deleteAllByIdInBatch(ids);
+        dataVersion.markChanged();
     }
 
     @Override
@@ -53,11 +87,25 @@ public class ContactRepositoryAdapter implements ContactRepository {
         return jpaRepository.findById(id).map(mapper::toDomainEntity);
     }
 
+    @Override
+    public List<Contact> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream().map(mapper::toDomainEntity).collect(Collectors.toList());
+    }
+
     @Override
     public List<Contact> findAll() {
         return jpaRepository.findAll().stream().map(mapper::toDomainEntity).collect(Collectors.toList());
     }
 
+    @Override
+    public Stream<Contact> streamAll() {
+        // Each entity is detached once mapped, so the persistence context stays empty however many rows are read
+        return jpaRepository.streamAllOrderById().map(entity -> {
+            entityManager.detach(entity);
+            return mapper.toDomainEntity(entity);
+        });
+    }
+
     @Override
     public Page<Contact> findAll(Pageable pageable) {
         return jpaRepository.findAll(pageable).map(mapper::toDomainEntity);
@@ -74,4 +122,56 @@ public class ContactRepositoryAdapter implements ContactRepository {
     public Page<Contact> findBySearchTerm(String search, Pageable pageable) {
         return jpaRepository.findBySearchTerm(search, pageable).map(mapper::toDomainEntity);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Contact> findPendingAddress(int limit) {
+        return jpaRepository.findByAddressStatusOrderByIdAsc(AddressStatus.PENDING, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean updatePendingAddress(Contact contact) {
+        int updated = jpaRepository.updatePendingAddress(
+                contact.getId(),
+                contact.getCep(),
+                contact.getLogradouro(),
+                contact.getBairro(),
+                contact.getCidade(),
+                contact.getEstado(),
+                contact.getAddressStatus(),
+                AddressStatus.PENDING
+        );
+        if (updated > 0) {
+            dataVersion.markChanged();
+        }
+        return updated > 0;
+    }
+
+    @Override
+    public List<String> findMostUsedCeps(int limit) {
+        return jpaRepository.findMostUsedCeps(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long getDataVersion() {
+        return dataVersion.current();
+    }
+
+    @Override
+    public long count() {
+        return jpaRepository.count();
+    }
+
+    @Override
+    public Stream<String> streamPhones() {
+        return jpaRepository.streamPhones();
+    }
+
+    @Override
+    public Map<String, Long> findIdsByNormalizedPhone(Collection<String> phones) {
+        return jpaRepository.findByNormalizedPhoneIn(phones).stream()
+                .collect(Collectors.toMap(ContactJpaRepository.PhoneOwner::getPhone,
+                        ContactJpaRepository.PhoneOwner::getId, Math::min));
+    }
+}
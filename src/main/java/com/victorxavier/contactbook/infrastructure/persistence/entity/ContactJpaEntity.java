@@ -1,13 +1,18 @@
 package com.victorxavier.contactbook.infrastructure.persistence.entity;
 
+import com.victorxavier.contactbook.domain.entity.AddressStatus;
 import jakarta.persistence.*;
 
 @Entity
 @Table(name = "contact_book_tb")
 public class ContactJpaEntity {
 
+    public static final String ID_SEQUENCE = "contact_book_tb_id_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String name;
@@ -19,6 +24,10 @@ public class ContactJpaEntity {
     private String cidade;
     private String estado;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "address_status", nullable = false)
+    private AddressStatus addressStatus = AddressStatus.RESOLVED;
+
     public ContactJpaEntity() {}
 
     public Long getId() {
@@ -92,4 +101,12 @@ public class ContactJpaEntity {
     public void setEstado(String estado) {
         this.estado = estado;
     }
+
+    public AddressStatus getAddressStatus() {
+        return addressStatus;
+    }
+
+    public void setAddressStatus(AddressStatus addressStatus) {
+        this.addressStatus = addressStatus;
+    }
 }
\ No newline at end of file
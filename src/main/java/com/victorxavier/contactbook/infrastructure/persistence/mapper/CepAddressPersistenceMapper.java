@@ -0,0 +1,21 @@
+package com.victorxavier.contactbook.infrastructure.persistence.mapper;
+
+import com.victorxavier.contactbook.domain.entity.CepAddress;
+import com.victorxavier.contactbook.infrastructure.persistence.entity.CepAddressJpaEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CepAddressPersistenceMapper {
+
+    public CepAddress toDomainEntity(CepAddressJpaEntity jpaEntity) {
+        if (jpaEntity == null) return null;
+        CepAddress cepAddress = new CepAddress();
+        cepAddress.setCep(jpaEntity.getCep());
+        cepAddress.setLogradouro(jpaEntity.getLogradouro());
+        cepAddress.setBairro(jpaEntity.getBairro());
+        cepAddress.setCidade(jpaEntity.getCidade());
+        cepAddress.setEstado(jpaEntity.getEstado());
+        cepAddress.setUpdatedAt(jpaEntity.getUpdatedAt());
+        return cepAddress;
+    }
+}
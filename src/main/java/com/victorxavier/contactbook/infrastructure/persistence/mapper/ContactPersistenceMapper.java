@@ -19,6 +19,7 @@ public class ContactPersistenceMapper {
         jpaEntity.setBairro(contact.getBairro());
         jpaEntity.setCidade(contact.getCidade());
         jpaEntity.setEstado(contact.getEstado());
+        jpaEntity.setAddressStatus(contact.getAddressStatus());
         return jpaEntity;
     }
 
@@ -34,6 +35,7 @@ public class ContactPersistenceMapper {
         contact.setBairro(jpaEntity.getBairro());
         contact.setCidade(jpaEntity.getCidade());
         contact.setEstado(jpaEntity.getEstado());
+        contact.setAddressStatus(jpaEntity.getAddressStatus());
         return contact;
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.victorxavier.contactbook.infrastructure.persistence.repository;
+
+import com.victorxavier.contactbook.infrastructure.persistence.entity.CepAddressJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface CepAddressJpaRepository extends JpaRepository<CepAddressJpaEntity, String> {
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO cep_address (cep, logradouro, bairro, cidade, estado, updated_at) " +
+            "VALUES (:cep, :logradouro, :bairro, :cidade, :estado, :updatedAt) " +
+            "ON CONFLICT (cep) DO UPDATE SET logradouro = EXCLUDED.logradouro, bairro = EXCLUDED.bairro, " +
+            "cidade = EXCLUDED.cidade, estado = EXCLUDED.estado, updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void upsert(@Param("cep") String cep,
+                @Param("logradouro") String logradouro,
+                @Param("bairro") String bairro,
+                @Param("cidade") String cidade,
+                @Param("estado") String estado,
+                @Param("updatedAt") Instant updatedAt);
+}
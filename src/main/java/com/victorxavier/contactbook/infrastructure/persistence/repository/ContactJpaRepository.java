@@ -1,14 +1,22 @@
 package com.victorxavier.contactbook.infrastructure.persistence.repository;
 
+import com.victorxavier.contactbook.domain.entity.AddressStatus;
 import com.victorxavier.contactbook.infrastructure.persistence.entity.ContactJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContactJpaRepository extends JpaRepository<ContactJpaEntity, Long> {
@@ -20,4 +28,54 @@ public interface ContactJpaRepository extends JpaRepository<ContactJpaEntity, Lo
             "LOWER(c.cidade) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(c.bairro) LIKE LOWER(CONCAT('%', :search, '%'))")
     Page<ContactJpaEntity> findBySearchTerm(@Param("search") String search, Pageable pageable);
-}
\ No newline at end of file
+
+    List<ContactJpaEntity> findByAddressStatusOrderByIdAsc(AddressStatus addressStatus, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ContactJpaEntity c SET c.logradouro = :logradouro, c.bairro = :bairro, c.cidade = :cidade, " +
+            "c.estado = :estado, c.addressStatus = :status " +
+            "WHERE c.id = :id AND c.cep = :cep AND c.addressStatus = :pending")
+    int updatePendingAddress(@Param("id") Long id,
+                             @Param("cep") String cep,
+                             @Param("logradouro") String logradouro,
+                             @Param("bairro") String bairro,
+                             @Param("cidade") String cidade,
+                             @Param("estado") String estado,
+                             @Param("status") AddressStatus status,
+                             @Param("pending") AddressStatus pending);
+
+    @Query("SELECT c.cep FROM ContactJpaEntity c WHERE c.cep IS NOT NULL " +
+            "GROUP BY c.cep ORDER BY COUNT(c) DESC")
+    List<String> findMostUsedCeps(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM ContactJpaEntity c ORDER BY c.id")
+    Stream<ContactJpaEntity> streamAllOrderById();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT c.phone FROM ContactJpaEntity c WHERE c.phone IS NOT NULL")
+    Stream<String> streamPhones();
+
+    // Matches the expression and predicate of the partial phone index, so the lookup can use it
+    @Query(value = "SELECT id AS id, regexp_replace(phone, '\\D', '', 'g') AS phone FROM contact_book_tb " +
+            "WHERE regexp_replace(phone, '\\D', '', 'g') IN (:phones) " +
+            "AND regexp_replace(phone, '\\D', '', 'g') <> ''", nativeQuery = true)
+    List<PhoneOwner> findByNormalizedPhoneIn(@Param("phones") Collection<String> phones);
+
+    @Query(value = "SELECT version FROM contact_book_version WHERE id = 1", nativeQuery = true)
+    long findDataVersion();
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE contact_book_version SET version = version + 1 WHERE id = 1", nativeQuery = true)
+    int incrementDataVersion();
+
+    interface PhoneOwner {
+        Long getId();
+        String getPhone();
+    }
+}
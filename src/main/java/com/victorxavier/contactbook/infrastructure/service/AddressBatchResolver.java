@@ -0,0 +1,113 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import com.victorxavier.contactbook.domain.service.AddressService;
+import com.victorxavier.contactbook.infrastructure.cache.CepExistenceIndex;
+import com.victorxavier.contactbook.infrastructure.exception.AddressNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Resolves a set of distinct CEPs concurrently on virtual threads, each exactly once,
+ * for callers that write many contacts at a time (imports and batch endpoints).
+ * Lookup failures are captured per CEP instead of thrown, so one bad CEP never
+ * aborts the others.
+ */
+@Component
+public class AddressBatchResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(AddressBatchResolver.class);
+
+    private final AddressService addressService;
+    private final CepExistenceIndex existenceIndex;
+
+    public AddressBatchResolver(AddressService addressService, CepExistenceIndex existenceIndex) {
+        this.addressService = addressService;
+        this.existenceIndex = existenceIndex;
+    }
+
+    /**
+     * Resolves every CEP with at most {@code parallelism} lookups in flight. If the calling
+     * thread is interrupted, no further lookups start, in-flight ones are interrupted and
+     * every CEP left without an outcome is reported as FAILED, with the interrupt flag kept.
+     *
+     * @return the outcome of each CEP, keyed by the CEP as given
+     */
+    public Map<String, Resolution> resolveAll(Collection<String> ceps,
+                                              AddressService.LookupPriority priority,
+                                              int parallelism) {
+        Map<String, Resolution> resolutions = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(Math.max(1, parallelism));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String cep : ceps) {
+                if (existenceIndex.isKnownMissing(cep)) {
+                    log.debug("CEP {} is known not to exist, skipping address lookup", cep);
+                    resolutions.put(cep, Resolution.notFound("CEP não encontrado: " + cep));
+                    continue;
+                }
+                try {
+                    permits.acquire();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Address resolution interrupted, marking the remaining CEPs as failed");
+                    break;
+                }
+                executor.execute(() -> {
+                    try {
+                        resolutions.put(cep, resolve(cep, priority));
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        for (String cep : ceps) {
+            resolutions.putIfAbsent(cep, Resolution.failed("Resolução de endereço interrompida"));
+        }
+        return resolutions;
+    }
+
+    private Resolution resolve(String cep, AddressService.LookupPriority priority) {
+        try {
+            AddressService.AddressInfo addressInfo = addressService.getAddressByCep(cep, priority);
+            return addressInfo.isPending() ? Resolution.pending() : Resolution.resolved(addressInfo);
+        } catch (AddressNotFoundException | IllegalArgumentException ex) {
+            return Resolution.notFound(ex.getMessage());
+        } catch (Exception ex) {
+            log.warn("Could not resolve address for CEP {}: {}", cep, ex.getMessage());
+            return Resolution.failed(ex.getMessage());
+        }
+    }
+
+    /**
+     * Outcome of resolving one CEP
+     */
+    public record Resolution(Outcome outcome, AddressService.AddressInfo address, String message) {
+
+        public enum Outcome { RESOLVED, PENDING, NOT_FOUND, FAILED }
+
+        static Resolution resolved(AddressService.AddressInfo address) {
+            return new Resolution(Outcome.RESOLVED, address, null);
+        }
+
+        static Resolution pending() {
+            return new Resolution(Outcome.PENDING, null, null);
+        }
+
+        static Resolution notFound(String message) {
+            return new Resolution(Outcome.NOT_FOUND, null, message);
+        }
+
+        static Resolution failed(String message) {
+            return new Resolution(Outcome.FAILED, null, message);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import com.victorxavier.contactbook.domain.entity.Contact;
+import com.victorxavier.contactbook.domain.repository.ContactRepository;
+import com.victorxavier.contactbook.domain.service.AddressService;
+import com.victorxavier.contactbook.infrastructure.exception.AddressNotFoundException;
+import com.victorxavier.contactbook.infrastructure.exception.ExternalServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Background worker that resolves the address of contacts saved with a PENDING address,
+ * either because asynchronous enrichment is enabled or because ViaCEP was unavailable.
+ * Each run takes a batch of pending contacts, resolves every distinct CEP once and
+ * updates only rows whose CEP is unchanged and still pending.
+ */
+@Component
+public class AddressEnrichmentWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(AddressEnrichmentWorker.class);
+
+    private final ContactRepository contactRepository;
+    private final AddressService addressService;
+    private final int batchSize;
+
+    public AddressEnrichmentWorker(ContactRepository contactRepository,
+                                   AddressService addressService,
+                                   @Value("${contactbook.address.enrichment.batch-size:200}") int batchSize) {
+        this.contactRepository = contactRepository;
+        this.addressService = addressService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${contactbook.address.enrichment.interval:5s}")
+    public void enrichPendingAddresses() {
+        List<Contact> pending = contactRepository.findPendingAddress(batchSize);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<Contact>> contactsByCep = pending.stream()
+                .filter(contact -> contact.getCep() != null)
+                .collect(Collectors.groupingBy(Contact::getCep, LinkedHashMap::new, Collectors.toList()));
+        int updated = 0;
+
+        for (Map.Entry<String, List<Contact>> entry : contactsByCep.entrySet()) {
+            String cep = entry.getKey();
+            try {
+                AddressService.AddressInfo addressInfo = addressService.getAddressByCep(cep, AddressService.LookupPriority.BULK);
+                if (addressInfo.isPending()) {
+                    log.info("Address source unavailable, postponing enrichment");
+                    break;
+                }
+                for (Contact contact : entry.getValue()) {
+                    contact.setAddress(
+                            addressInfo.getLogradouro(),
+                            addressInfo.getBairro(),
+                            addressInfo.getCidade(),
+                            addressInfo.getEstado()
+                    );
+                }
+            } catch (AddressNotFoundException | IllegalArgumentException ex) {
+                log.warn("CEP {} could not be resolved during enrichment: {}", cep, ex.getMessage());
+                entry.getValue().forEach(Contact::markAddressNotFound);
+            } catch (ExternalServiceException ex) {
+                log.info("Address source unavailable, postponing enrichment: {}", ex.getMessage());
+                break;
+            }
+            for (Contact contact : entry.getValue()) {
+                if (contactRepository.updatePendingAddress(contact)) {
+                    updated++;
+                }
+            }
+        }
+
+        log.info("Address enrichment updated {} of {} pending contacts", updated, pending.size());
+    }
+}
@@ -1,65 +1,195 @@
 package com.victorxavier.contactbook.infrastructure.service;
 
+import com.victorxavier.contactbook.domain.entity.CepAddress;
+import com.victorxavier.contactbook.domain.repository.CepAddressRepository;
 import com.victorxavier.contactbook.domain.service.AddressService;
-import com.victorxavier.contactbook.infrastructure.client.ViaCepClient;
-import com.victorxavier.contactbook.infrastructure.client.response.AddressResponse;
+import com.victorxavier.contactbook.infrastructure.cache.CepAddressCache;
+import com.victorxavier.contactbook.infrastructure.cache.CepExistenceIndex;
+import com.victorxavier.contactbook.infrastructure.client.ViaCepGateway;
 import com.victorxavier.contactbook.infrastructure.exception.AddressNotFoundException;
 import com.victorxavier.contactbook.infrastructure.exception.ExternalServiceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import feign.FeignException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Service
 public class AddressServiceImpl implements AddressService {
 
     private static final Logger log = LoggerFactory.getLogger(AddressServiceImpl.class);
 
-    private final ViaCepClient viaCepClient;
-
-    public AddressServiceImpl(ViaCepClient viaCepClient) {
-        this.viaCepClient = viaCepClient;
+    private final ViaCepGateway viaCepGateway;
+    private final CepAddressCache cache;
+    private final CepExistenceIndex existenceIndex;
+    private final CepAddressRepository cepAddressRepository;
+    private final Duration staleness;
+    private final boolean pendingFallback;
+    private final ConcurrentMap<String, CompletableFuture<AddressInfo>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedLookups;
+    private final Counter rejectedLookups;
+
+    public AddressServiceImpl(ViaCepGateway viaCepGateway,
+                              CepAddressCache cache,
+                              CepExistenceIndex existenceIndex,
+                              CepAddressRepository cepAddressRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${viacep.store.staleness:30d}") Duration staleness,
+                              @Value("${viacep.resilience.pending-fallback:true}") boolean pendingFallback) {
+        this.viaCepGateway = viaCepGateway;
+        this.cache = cache;
+        this.existenceIndex = existenceIndex;
+        this.cepAddressRepository = cepAddressRepository;
+        this.staleness = staleness;
+        this.pendingFallback = pendingFallback;
+        this.coalescedLookups = Counter.builder("cep.lookup.coalesced")
+                .description("CEP lookups that joined an identical lookup already in flight")
+                .register(meterRegistry);
+        this.rejectedLookups = Counter.builder("cep.lookup.rejected")
+                .description("CEP lookups rejected by the existence index without any I/O")
+                .register(meterRegistry);
+        Gauge.builder("cep.lookup.in-flight", inFlight, ConcurrentMap::size)
+                .description("Distinct CEP lookups currently in flight")
+                .register(meterRegistry);
     }
 
     @Override
     public AddressInfo getAddressByCep(String cep) {
-        log.info("Fetching address for CEP: {}", cep);
+        return getAddressByCep(cep, LookupPriority.INTERACTIVE);
+    }
 
+    @Override
+    public AddressInfo getAddressByCep(String cep, LookupPriority priority) {
         validateCep(cep);
         String cleanCep = cleanCep(cep);
 
-        try {
-            AddressResponse response = viaCepClient.getAddress(cleanCep);
-
-            if (response == null || isInvalidResponse(response)) {
-                log.warn("CEP not found or invalid response for CEP: {}", cleanCep);
-                throw new AddressNotFoundException("CEP não encontrado: " + cep);
-            }
+        if (existenceIndex.isKnownMissing(cleanCep)) {
+            rejectedLookups.increment();
+            throw new AddressNotFoundException("CEP não encontrado: " + cep);
+        }
 
-            log.info("Address found successfully for CEP: {}", cleanCep);
+        AddressInfo cached = fromCache(cep, cleanCep);
+        if (cached != null) {
+            return cached;
+        }
 
-            return new AddressInfo(
-                    response.getLogradouro(),
-                    response.getBairro(),
-                    response.getCidade(),
-                    response.getEstado()
-            );
+        return resolveOnce(cep, cleanCep, priority);
+    }
 
-        } catch (FeignException.NotFound ex) {
-            log.warn("CEP not found (Feign): {}", cleanCep);
+    /**
+     * Returns the cached address, or null on a cache miss
+     *
+     * @throws AddressNotFoundException when the CEP is cached as nonexistent
+     */
+    private AddressInfo fromCache(String cep, String cleanCep) {
+        Optional<CepAddressCache.Entry> cached = cache.get(cleanCep);
+        if (cached.isEmpty()) {
+            return null;
+        }
+        log.debug("Address cache hit for CEP: {}", cleanCep);
+        if (cached.get().isNotFound()) {
             throw new AddressNotFoundException("CEP não encontrado: " + cep);
+        }
+        return cached.get().getAddress();
+    }
+
+    /**
+     * Resolves a cache miss, letting concurrent callers for the same CEP share a single lookup
+     */
+    private AddressInfo resolveOnce(String cep, String cleanCep, LookupPriority priority) {
+        CompletableFuture<AddressInfo> lookup = new CompletableFuture<>();
+        CompletableFuture<AddressInfo> existing = inFlight.putIfAbsent(cleanCep, lookup);
+        if (existing != null) {
+            coalescedLookups.increment();
+            return awaitLookup(existing);
+        }
+
+        try {
+            // A lookup for this CEP may have finished, and been cached, between the cache miss
+            // and taking the slot
+            AddressInfo address = fromCache(cep, cleanCep);
+            if (address == null) {
+                address = resolve(cep, cleanCep, priority);
+            }
+            lookup.complete(address);
+            return address;
+        } catch (RuntimeException ex) {
+            lookup.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(cleanCep, lookup);
+        }
+    }
 
-        } catch (FeignException ex) {
-            log.error("External service error for CEP: {}, status: {}", cleanCep, ex.status());
-            throw new ExternalServiceException("Erro no serviço de consulta de CEP. Tente novamente mais tarde.");
+    private AddressInfo awaitLookup(CompletableFuture<AddressInfo> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
 
-        } catch (AddressNotFoundException | IllegalArgumentException ex) {
-            // Re-throw domain exceptions
+    private AddressInfo resolve(String cep, String cleanCep, LookupPriority priority) {
+        Optional<CepAddress> stored = findStored(cleanCep);
+        if (stored.isPresent() && !stored.get().isStale(staleness, Instant.now())) {
+            log.debug("Address store hit for CEP: {}", cleanCep);
+            AddressInfo address = stored.get().toAddressInfo();
+            cache.putFound(cleanCep, address);
+            existenceIndex.markFound(cleanCep);
+            return address;
+        }
+
+        try {
+            AddressInfo address = viaCepGateway.fetch(cep, cleanCep, priority);
+            cache.putFound(cleanCep, address);
+            existenceIndex.markFound(cleanCep);
+            store(cleanCep, address);
+            return address;
+        } catch (AddressNotFoundException ex) {
+            cache.putNotFound(cleanCep);
+            existenceIndex.markMissing(cleanCep);
+            throw ex;
+        } catch (ExternalServiceException ex) {
+            if (stored.isPresent()) {
+                log.warn("ViaCEP unavailable, serving stale address for CEP: {}", cleanCep);
+                return stored.get().toAddressInfo();
+            }
+            if (pendingFallback) {
+                log.warn("ViaCEP unavailable, address for CEP {} left pending: {}", cleanCep, ex.getMessage());
+                return AddressInfo.pending();
+            }
             throw ex;
-            
-        } catch (Exception ex) {
-            log.error("Unexpected error fetching address for CEP: {}", cleanCep, ex);
-            throw new ExternalServiceException("Erro inesperado ao buscar endereço para o CEP: " + cep);
+        }
+    }
+
+    private Optional<CepAddress> findStored(String cleanCep) {
+        try {
+            return cepAddressRepository.findByCep(cleanCep);
+        } catch (DataAccessException ex) {
+            log.warn("Could not read stored address for CEP {}: {}", cleanCep, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(String cleanCep, AddressInfo address) {
+        try {
+            cepAddressRepository.save(new CepAddress(cleanCep, address, Instant.now()));
+        } catch (DataAccessException ex) {
+            log.warn("Could not store address for CEP {}: {}", cleanCep, ex.getMessage());
         }
     }
 
@@ -77,12 +207,4 @@ public class AddressServiceImpl implements AddressService {
     private String cleanCep(String cep) {
         return cep.replaceAll("[^0-9]", "");
     }
-
-    private boolean isInvalidResponse(AddressResponse response) {
-        if (Boolean.TRUE.equals(response.getErro())) {
-            return true;
-        }
-        return response.getLogradouro() == null ||
-                response.getLogradouro().trim().isEmpty();
-    }
 }
\ No newline at end of file
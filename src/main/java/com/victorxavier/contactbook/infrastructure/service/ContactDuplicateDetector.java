@@ -0,0 +1,258 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import com.victorxavier.contactbook.application.port.in.ImportOptions;
+import com.victorxavier.contactbook.application.port.in.ImportProgress;
+import com.victorxavier.contactbook.domain.entity.Contact;
+import com.victorxavier.contactbook.domain.repository.ContactRepository;
+import com.victorxavier.contactbook.infrastructure.persistence.TransactionRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Finds imported contacts whose normalized phone (digits only) already belongs to a stored
+ * contact or appeared earlier in the same file, without a database lookup per row.
+ * <p>
+ * Each import preloads a Bloom filter with the phones of the whole table and keeps an exact
+ * set of the phones it has already seen. Rows the filter rules out are new for certain; only
+ * the few rows it flags (true duplicates plus about 1% false positives) are checked against
+ * the database, with one query per chunk. The unique index on the normalized phone backs this
+ * up against contacts written concurrently by another request.
+ */
+@Component
+public class ContactDuplicateDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactDuplicateDetector.class);
+
+    private final ContactRepository contactRepository;
+    private final TransactionRunner transactions;
+
+    public ContactDuplicateDetector(ContactRepository contactRepository, TransactionRunner transactions) {
+        this.contactRepository = contactRepository;
+        this.transactions = transactions;
+    }
+
+    /**
+     * Starts duplicate detection for one import.
+     *
+     * @return the session to filter the chunks of the import with, or null for
+     *         {@link ImportOptions.DuplicateMode#INSERT}, which performs no check
+     */
+    public Session open(ImportOptions.DuplicateMode mode) {
+        if (mode == ImportOptions.DuplicateMode.INSERT) {
+            return null;
+        }
+        long start = System.nanoTime();
+        BloomFilter stored = transactions.read("contact.import.phones", () -> {
+            BloomFilter filter = new BloomFilter(contactRepository.count());
+            try (Stream<String> phones = contactRepository.streamPhones()) {
+                phones.forEach(phone -> {
+                    String digits = normalize(phone);
+                    if (!digits.isEmpty()) {
+                        filter.add(key(digits));
+                    }
+                });
+            }
+            return filter;
+        });
+        log.info("Loaded phone filter with {} contacts in {} ms",
+                stored.size(), (System.nanoTime() - start) / 1_000_000);
+        return new Session(mode, stored);
+    }
+
+    /**
+     * Duplicate state of a single import. Not thread-safe; chunks are filtered one at a time.
+     */
+    public final class Session {
+
+        private final ImportOptions.DuplicateMode mode;
+        private final BloomFilter stored;
+        private final LongHashSet seen = new LongHashSet();
+
+        private Session(ImportOptions.DuplicateMode mode, BloomFilter stored) {
+            this.mode = mode;
+            this.stored = stored;
+        }
+
+        /**
+         * Drops the rows of the chunk whose phone appeared earlier in the file. Rows matching a
+         * stored contact are dropped as well when skipping, or given that contact's ID when upserting.
+         *
+         * @return the contacts left to import, in file order
+         */
+        public List<Contact> filter(List<Contact> chunk, ImportProgress progress) {
+            List<Contact> kept = new ArrayList<>(chunk.size());
+            Map<String, Contact> candidates = new HashMap<>();
+            int skipped = 0;
+
+            for (Contact contact : chunk) {
+                String digits = normalize(contact.getPhone());
+                if (digits.isEmpty()) {
+                    // Phones without digits are left out of the unique index as well
+                    kept.add(contact);
+                    continue;
+                }
+                long key = key(digits);
+                if (!seen.add(key)) {
+                    skipped++;
+                    continue;
+                }
+                if (stored.mightContain(key)) {
+                    candidates.put(digits, contact);
+                }
+                kept.add(contact);
+            }
+
+            if (!candidates.isEmpty()) {
+                Map<String, Long> existing = transactions.read("contact.import.duplicates",
+                        () -> contactRepository.findIdsByNormalizedPhone(candidates.keySet()));
+                Set<Contact> dropped = Collections.newSetFromMap(new IdentityHashMap<>());
+                existing.forEach((digits, id) -> {
+                    Contact contact = candidates.get(digits);
+                    if (mode == ImportOptions.DuplicateMode.UPSERT) {
+                        contact.setId(id);
+                    } else {
+                        dropped.add(contact);
+                    }
+                });
+                if (!dropped.isEmpty()) {
+                    kept.removeIf(dropped::contains);
+                    skipped += dropped.size();
+                }
+                log.debug("Checked {} possible duplicates, {} already stored", candidates.size(), existing.size());
+            }
+
+            progress.duplicatesSkipped(skipped);
+            return kept;
+        }
+    }
+
+    /**
+     * Returns the digits of the phone, as compared by the unique phone index
+     */
+    public static String normalize(String phone) {
+        if (phone == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Packs a digit string into a non-zero long: exact for up to 17 digits (value and length, so
+     * leading zeros are kept apart), a 64-bit hash with the sign bit set for longer ones.
+     */
+    static long key(String digits) {
+        if (digits.length() <= 17) {
+            return Long.parseLong(digits) * 32 + digits.length();
+        }
+        long hash = 1125899906842597L;
+        for (int i = 0; i < digits.length(); i++) {
+            hash = 31 * hash + digits.charAt(i);
+        }
+        return mix(hash) | Long.MIN_VALUE;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    /**
+     * Bloom filter over long keys sized for about 1% false positives at the expected count,
+     * using about 10 bits per key.
+     */
+    private static final class BloomFilter {
+
+        private static final int HASHES = 7;
+
+        private final long[] bits;
+        private final long bitCount;
+        private long size;
+
+        BloomFilter(long expected) {
+            long words = Math.max(1, (Math.max(expected, 1024) * 10 + 63) / 64);
+            this.bits = new long[(int) Math.min(words, Integer.MAX_VALUE - 8)];
+            this.bitCount = (long) bits.length * 64;
+        }
+
+        void add(long key) {
+            long h1 = mix(key);
+            long h2 = mix(h1) | 1;
+            for (int i = 0; i < HASHES; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+            size++;
+        }
+
+        boolean mightContain(long key) {
+            long h1 = mix(key);
+            long h2 = mix(h1) | 1;
+            for (int i = 0; i < HASHES; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long size() {
+            return size;
+        }
+    }
+
+    /**
+     * Open-addressing set of non-zero longs, without boxing
+     */
+    private static final class LongHashSet {
+
+        private long[] table = new long[1024];
+        private int size;
+
+        boolean add(long key) {
+            if ((size + 1) * 2 > table.length) {
+                grow();
+            }
+            int mask = table.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (table[slot] != 0) {
+                if (table[slot] == key) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = key;
+            size++;
+            return true;
+        }
+
+        private void grow() {
+            long[] old = table;
+            table = new long[old.length * 2];
+            size = 0;
+            for (long key : old) {
+                if (key != 0) {
+                    add(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import com.victorxavier.contactbook.application.port.out.AbstractContactExportPort;
+import com.victorxavier.contactbook.domain.entity.Contact;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Exports contacts as RFC 4180 CSV in UTF-8. The first four columns match the import layout,
+ * so an export can be uploaded again as is.
+ */
+@Service
+public class CsvExportService extends AbstractContactExportPort {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvExportService.class);
+
+    private static final String HEADER = "name,phone,cep,numero,id,logradouro,bairro,cidade,estado,addressStatus";
+
+    public CsvExportService() {
+        super("csv", "text/csv;charset=UTF-8", "csv");
+    }
+
+    @Override
+    public void export(Stream<Contact> contacts, OutputStream outputStream) throws IOException {
+        log.info("Generating CSV export");
+        Utf8RowWriter writer = new Utf8RowWriter(outputStream);
+        writer.write(HEADER);
+        writer.writeAscii('\n');
+
+        long rows = 0;
+        for (Contact contact : (Iterable<Contact>) contacts::iterator) {
+            writer.writeCsvField(contact.getName());
+            writer.writeAscii(',');
+            writer.writeCsvField(contact.getPhone());
+            writer.writeAscii(',');
+            writer.writeCsvField(contact.getCep());
+            writer.writeAscii(',');
+            if (contact.getNumero() != null) {
+                writer.writeLong(contact.getNumero());
+            }
+            writer.writeAscii(',');
+            if (contact.getId() != null) {
+                writer.writeLong(contact.getId());
+            }
+            writer.writeAscii(',');
+            writer.writeCsvField(contact.getLogradouro());
+            writer.writeAscii(',');
+            writer.writeCsvField(contact.getBairro());
+            writer.writeAscii(',');
+            writer.writeCsvField(contact.getCidade());
+            writer.writeAscii(',');
+            writer.writeCsvField(contact.getEstado());
+            writer.writeAscii(',');
+            if (contact.getAddressStatus() != null) {
+                writer.write(contact.getAddressStatus().name());
+            }
+            writer.writeAscii('\n');
+            rows++;
+        }
+
+        writer.flush();
+        log.info("CSV export generated successfully with {} contacts.", rows);
+    }
+
+    // Methods for getMimeType, getFilename, and canHandle are inherited from AbstractContactExportPort
+}
@@ -1,101 +1,183 @@
 package com.victorxavier.contactbook.infrastructure.service;
 
 import com.victorxavier.contactbook.application.port.in.CsvImportPort;
+import com.victorxavier.contactbook.application.port.in.ImportOptions;
+import com.victorxavier.contactbook.application.port.in.ImportProgress;
 import com.victorxavier.contactbook.domain.entity.Contact;
 import com.victorxavier.contactbook.domain.service.AddressService;
+import com.victorxavier.contactbook.infrastructure.csv.CsvInputDecompressor;
+import com.victorxavier.contactbook.infrastructure.csv.CsvRecordReader;
+import com.victorxavier.contactbook.infrastructure.exception.CsvProcessingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.util.unit.DataSize;
 
-import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming CSV import of contacts, from plain, gzip or zip uploads. Records are read with
+ * {@link CsvRecordReader} into chunks, duplicates are filtered out according to the import's
+ * {@link ImportOptions.DuplicateMode}, then the distinct CEPs of each chunk are resolved in
+ * parallel before the chunk is handed over for persistence.
+ */
 @Service
 public class CsvImportService implements CsvImportPort {
 
     private static final Logger log = LoggerFactory.getLogger(CsvImportService.class);
     private static final int MINIMUM_COLUMNS = 4;
-
-    private final AddressService addressService;
-
-    public CsvImportService(AddressService addressService) {
-        this.addressService = addressService;
+    private static final char DELIMITER = ',';
+
+    private final AddressBatchResolver addressResolver;
+    private final ContactDuplicateDetector duplicateDetector;
+    private final int cepParallelism;
+    private final DataSize maxDecompressedSize;
+
+    public CsvImportService(AddressBatchResolver addressResolver,
+                            ContactDuplicateDetector duplicateDetector,
+                            @Value("${contactbook.import.cep-parallelism:16}") int cepParallelism,
+                            @Value("${contactbook.import.max-decompressed-size:1GB}") DataSize maxDecompressedSize) {
+        this.addressResolver = addressResolver;
+        this.duplicateDetector = duplicateDetector;
+        this.cepParallelism = cepParallelism;
+        this.maxDecompressedSize = maxDecompressedSize;
     }
 
     @Override
-    public List<Contact> importContacts(MultipartFile file) {
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("File cannot be empty");
-        }
-
-        List<Contact> contacts = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream()))) {
-            String line;
-            int lineNumber = 0;
+    public void importContacts(InputStream input, String fileName, int chunkSize, ImportOptions options,
+                               ImportProgress progress, Consumer<List<Contact>> chunkConsumer) {
+        ContactDuplicateDetector.Session duplicates = duplicateDetector.open(options.getDuplicates());
+        List<Contact> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        try (CsvRecordReader reader = new CsvRecordReader(
+                new InputStreamReader(CsvInputDecompressor.open(input, fileName, maxDecompressedSize.toBytes()), StandardCharsets.UTF_8), DELIMITER)) {
             boolean isFirstLine = true;
 
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
+            while (reader.next()) {
+                lineNumber = reader.lineNumber();
 
                 if (isFirstLine) {
                     isFirstLine = false;
                     continue;
                 }
 
-                if (line.trim().isEmpty()) {
+                if (reader.isEmptyLine()) {
                     continue;
                 }
 
-                String[] fields = line.split(",");
-                if (fields.length < MINIMUM_COLUMNS) {
-                    log.warn("Skipping malformed line {}: {}", lineNumber, line);
+                progress.rowRead();
+                if (reader.fieldCount() < MINIMUM_COLUMNS) {
+                    log.warn("Skipping malformed line {}: expected {} columns, found {}",
+                            lineNumber, MINIMUM_COLUMNS, reader.fieldCount());
+                    progress.rowSkipped();
                     continue;
                 }
 
-                createContactFromCsv(fields)
-                    .ifPresent(contacts::add);
+                Optional<Contact> contact = createContactFromCsv(reader);
+                if (contact.isEmpty()) {
+                    progress.rowSkipped();
+                    continue;
+                }
+                chunk.add(contact.get());
+                if (chunk.size() >= chunkSize) {
+                    processChunk(chunk, duplicates, progress, chunkConsumer);
+                    chunk = new ArrayList<>(chunkSize);
+                }
             }
-        } catch (Exception e) {
-            log.error("Error processing CSV file", e);
-            throw new RuntimeException("Failed to process CSV file: " + e.getMessage());
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, duplicates, progress, chunkConsumer);
+            }
+        } catch (IOException e) {
+            log.error("Error reading CSV file {}", fileName, e);
+            throw CsvProcessingException.invalidLine(fileName, (int) lineNumber, e.getMessage());
         }
 
-        log.info("Successfully parsed {} contacts from CSV file.", contacts.size());
-        return contacts;
+        log.info("Successfully parsed {} rows from CSV file {} ({} skipped).",
+                progress.getRowsRead(), fileName, progress.getRowsSkipped());
+    }
+
+    /**
+     * Drops duplicates first, so no address is looked up for rows that will not be written
+     */
+    private void processChunk(List<Contact> chunk, ContactDuplicateDetector.Session duplicates,
+                              ImportProgress progress, Consumer<List<Contact>> chunkConsumer) {
+        List<Contact> contacts = duplicates != null ? duplicates.filter(chunk, progress) : chunk;
+        if (contacts.isEmpty()) {
+            return;
+        }
+        resolveAddresses(contacts);
+        progress.chunkEnriched(contacts.size());
+        chunkConsumer.accept(contacts);
     }
 
-    private Optional<Contact> createContactFromCsv(String[] data) {
+    private Optional<Contact> createContactFromCsv(CsvRecordReader record) {
         try {
-            String name = data[0].trim();
-            String phone = data[1].trim();
-            String cep = data[2].trim().replace("-", "");
-            Integer numero = Integer.parseInt(data[3].trim());
+            String name = record.field(0).trim();
+            String phone = record.field(1).trim();
+            String cep = record.field(2).trim().replace("-", "");
+            Integer numero = Integer.parseInt(record.field(3).trim());
 
             Contact contact = new Contact(name, phone, cep, numero);
 
-            try {
-                AddressService.AddressInfo addressInfo = addressService.getAddressByCep(cep);
-                contact.setAddress(
-                        addressInfo.getLogradouro(),
-                        addressInfo.getBairro(),
-                        addressInfo.getCidade(),
-                        addressInfo.getEstado()
-                );
-            } catch (Exception ex) {
-                log.warn("Could not find address for CEP: {} during CSV import. Contact will be imported without full address.", cep);
-            }
-
             return Optional.of(contact);
         } catch (NumberFormatException e) {
-            log.warn("Error parsing number in CSV line: {}. Skipping line.", String.join(",", data));
+            log.warn("Error parsing number in CSV line {}. Skipping line.", record.lineNumber());
             return Optional.empty();
         } catch (Exception e) {
-            log.warn("Error parsing generic data in CSV line: {}. Skipping line.", String.join(",", data));
+            log.warn("Error parsing generic data in CSV line {}. Skipping line.", record.lineNumber());
             return Optional.empty();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Resolves every distinct CEP of the chunk once, concurrently with at most
+     * {@code contactbook.import.cep-parallelism} lookups in flight,
+     * and applies each result to all contacts sharing that CEP.
+     */
+    private void resolveAddresses(List<Contact> chunk) {
+        Map<String, List<Contact>> contactsByCep = chunk.stream()
+                .collect(Collectors.groupingBy(Contact::getCep, LinkedHashMap::new, Collectors.toList()));
+        Map<String, AddressBatchResolver.Resolution> resolutions =
+                addressResolver.resolveAll(contactsByCep.keySet(), AddressService.LookupPriority.BULK, cepParallelism);
+
+        contactsByCep.forEach((cep, contacts) -> applyAddress(cep, contacts, resolutions.get(cep)));
+        log.debug("Resolved {} distinct CEPs for {} contacts", contactsByCep.size(), chunk.size());
+    }
+
+    private void applyAddress(String cep, List<Contact> contacts, AddressBatchResolver.Resolution resolution) {
+        switch (resolution.outcome()) {
+            case RESOLVED -> {
+                AddressService.AddressInfo addressInfo = resolution.address();
+                for (Contact contact : contacts) {
+                    contact.setAddress(
+                            addressInfo.getLogradouro(),
+                            addressInfo.getBairro(),
+                            addressInfo.getCidade(),
+                            addressInfo.getEstado()
+                    );
+                }
+            }
+            case PENDING -> contacts.forEach(Contact::markAddressPending);
+            case NOT_FOUND -> {
+                log.warn("Could not find address for CEP: {} during CSV import. {} contacts will be imported without full address.",
+                        cep, contacts.size());
+                contacts.forEach(Contact::markAddressNotFound);
+            }
+            case FAILED -> {
+                log.warn("Could not resolve address for CEP: {} during CSV import. Address will be resolved later.", cep);
+                contacts.forEach(Contact::markAddressPending);
+            }
+        }
+    }
+}
@@ -3,48 +3,60 @@ package com.victorxavier.contactbook.infrastructure.service;
 import com.victorxavier.contactbook.application.port.out.AbstractContactExportPort;
 import com.victorxavier.contactbook.domain.entity.Contact;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
-import java.util.List;
+import java.io.OutputStream;
+import java.util.stream.Stream;
 
+/**
+ * Writes xlsx files with a streaming workbook: only the last {@value #ROW_WINDOW} rows are kept
+ * in memory and older ones are flushed to a compressed temporary file, so heap use does not grow
+ * with the number of contacts. Column widths come from the header and the first
+ * {@value #WIDTH_SAMPLE_ROWS} rows instead of a rescan of the whole sheet.
+ */
 @Service
 public class ExcelExportService extends AbstractContactExportPort {
 
     private static final Logger log = LoggerFactory.getLogger(ExcelExportService.class);
-    
+
+    private static final int ROW_WINDOW = 100;
+    private static final int WIDTH_SAMPLE_ROWS = 1000;
+    private static final int MAX_COLUMN_CHARS = 60;
+    private static final String[] HEADERS = {"ID", "Nome", "Telefone", "CEP", "Logradouro", "Número", "Bairro", "Cidade", "Estado"};
+
     public ExcelExportService() {
         super("excel", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
     }
 
     @Override
-    public byte[] export(List<Contact> contacts) {
-        log.info("Generating Excel export for {} contacts", contacts.size());
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-
-            Sheet sheet = workbook.createSheet("Contatos");
+    public void export(Stream<Contact> contacts, OutputStream outputStream) {
+        log.info("Generating Excel export");
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Contatos");
 
             CellStyle headerStyle = workbook.createCellStyle();
             Font headerFont = workbook.createFont();
             headerFont.setBold(true);
             headerStyle.setFont(headerFont);
 
+            int[] widths = new int[HEADERS.length];
             Row headerRow = sheet.createRow(0);
-            String[] headers = {"ID", "Nome", "Telefone", "CEP", "Logradouro", "Número", "Bairro", "Cidade", "Estado"};
-
-            for (int i = 0; i < headers.length; i++) {
+            for (int i = 0; i < HEADERS.length; i++) {
                 Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
+                cell.setCellValue(HEADERS[i]);
                 cell.setCellStyle(headerStyle);
+                widths[i] = HEADERS[i].length();
             }
 
             int rowNum = 1;
-            for (Contact contact : contacts) {
-                Row row = sheet.createRow(rowNum++);
+            for (Contact contact : (Iterable<Contact>) contacts::iterator) {
+                Row row = sheet.createRow(rowNum);
                 row.createCell(0).setCellValue(contact.getId());
                 row.createCell(1).setCellValue(contact.getName());
                 row.createCell(2).setCellValue(contact.getPhone());
@@ -54,22 +66,38 @@ public class ExcelExportService extends AbstractContactExportPort {
                 row.createCell(6).setCellValue(contact.getBairro());
                 row.createCell(7).setCellValue(contact.getCidade());
                 row.createCell(8).setCellValue(contact.getEstado());
+                if (rowNum <= WIDTH_SAMPLE_ROWS) {
+                    sampleWidths(row, widths);
+                }
+                rowNum++;
             }
 
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
+            for (int i = 0; i < HEADERS.length; i++) {
+                sheet.setColumnWidth(i, (Math.min(widths[i], MAX_COLUMN_CHARS) + 2) * 256);
             }
 
             workbook.write(outputStream);
-            log.info("Excel export generated successfully.");
-            return outputStream.toByteArray();
+            outputStream.flush();
+            log.info("Excel export generated successfully with {} contacts.", rowNum - 1);
 
         } catch (Exception e) {
             log.error("Error exporting contacts to Excel", e);
 
             throw new RuntimeException("Erro ao exportar para Excel: " + e.getMessage(), e);
+        } finally {
+            workbook.dispose();
+        }
+    }
+
+    private static void sampleWidths(Row row, int[] widths) {
+        for (int i = 0; i < widths.length; i++) {
+            Cell cell = row.getCell(i);
+            int length = cell.getCellType() == CellType.NUMERIC
+                    ? Long.toString((long) cell.getNumericCellValue()).length()
+                    : cell.getStringCellValue().length();
+            widths[i] = Math.max(widths[i], length);
         }
     }
 
     // Methods for getMimeType, getFilename, and canHandle are inherited from AbstractContactExportPort
-}
\ No newline at end of file
+}
@@ -0,0 +1,70 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import com.victorxavier.contactbook.application.port.out.AbstractContactExportPort;
+import com.victorxavier.contactbook.domain.entity.Contact;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Exports contacts as newline-delimited JSON: one object per line, with the same field names
+ * as the contact API responses.
+ */
+@Service
+public class NdjsonExportService extends AbstractContactExportPort {
+
+    private static final Logger log = LoggerFactory.getLogger(NdjsonExportService.class);
+
+    public NdjsonExportService() {
+        super("ndjson", "application/x-ndjson", "ndjson");
+    }
+
+    @Override
+    public void export(Stream<Contact> contacts, OutputStream outputStream) throws IOException {
+        log.info("Generating NDJSON export");
+        Utf8RowWriter writer = new Utf8RowWriter(outputStream);
+
+        long rows = 0;
+        for (Contact contact : (Iterable<Contact>) contacts::iterator) {
+            writer.write("{\"id\":");
+            writeNumber(writer, contact.getId());
+            writer.write(",\"name\":");
+            writer.writeJsonString(contact.getName());
+            writer.write(",\"phone\":");
+            writer.writeJsonString(contact.getPhone());
+            writer.write(",\"cep\":");
+            writer.writeJsonString(contact.getCep());
+            writer.write(",\"logradouro\":");
+            writer.writeJsonString(contact.getLogradouro());
+            writer.write(",\"numero\":");
+            writeNumber(writer, contact.getNumero() != null ? contact.getNumero().longValue() : null);
+            writer.write(",\"bairro\":");
+            writer.writeJsonString(contact.getBairro());
+            writer.write(",\"cidade\":");
+            writer.writeJsonString(contact.getCidade());
+            writer.write(",\"estado\":");
+            writer.writeJsonString(contact.getEstado());
+            writer.write(",\"addressStatus\":");
+            writer.writeJsonString(contact.getAddressStatus() != null ? contact.getAddressStatus().name() : null);
+            writer.write("}\n");
+            rows++;
+        }
+
+        writer.flush();
+        log.info("NDJSON export generated successfully with {} contacts.", rows);
+    }
+
+    private static void writeNumber(Utf8RowWriter writer, Long value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else {
+            writer.writeLong(value);
+        }
+    }
+
+    // Methods for getMimeType, getFilename, and canHandle are inherited from AbstractContactExportPort
+}
@@ -0,0 +1,98 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import com.victorxavier.contactbook.domain.service.AddressService;
+import com.victorxavier.contactbook.infrastructure.cache.CepExistenceIndex;
+import com.victorxavier.contactbook.infrastructure.dataset.CepDataset;
+import com.victorxavier.contactbook.infrastructure.dataset.CepDatasetCompiler;
+import com.victorxavier.contactbook.infrastructure.exception.AddressNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Address service backed by a local, memory-mapped CEP dataset.
+ * Enabled by the {@code offline-cep} profile; CEPs missing from the dataset
+ * fall back to the ViaCEP-backed {@link AddressServiceImpl} unless disabled.
+ * With the fallback disabled the dataset is loaded into {@link CepExistenceIndex} as authoritative.
+ */
+@Service
+@Primary
+@Profile("offline-cep")
+public class OfflineAddressService implements AddressService {
+
+    private static final Logger log = LoggerFactory.getLogger(OfflineAddressService.class);
+
+    private final CepDataset dataset;
+    private final AddressServiceImpl fallback;
+    private final boolean fallbackEnabled;
+    private final CepExistenceIndex existenceIndex;
+
+    public OfflineAddressService(AddressServiceImpl fallback,
+                                 CepExistenceIndex existenceIndex,
+                                 @Value("${cep.offline.source:}") String source,
+                                 @Value("${cep.offline.compiled}") Path compiled,
+                                 @Value("${cep.offline.delimiter:,}") char delimiter,
+                                 @Value("${cep.offline.fallback-enabled:true}") boolean fallbackEnabled) {
+        this.fallback = fallback;
+        this.fallbackEnabled = fallbackEnabled;
+        this.existenceIndex = existenceIndex;
+        this.dataset = loadDataset(source, compiled, delimiter);
+        log.info("Offline CEP dataset loaded with {} entries from {}", dataset.size(), compiled);
+        existenceIndex.load(dataset::forEachCep, !fallbackEnabled);
+    }
+
+    @Override
+    public AddressInfo getAddressByCep(String cep) {
+        return getAddressByCep(cep, LookupPriority.INTERACTIVE);
+    }
+
+    @Override
+    public AddressInfo getAddressByCep(String cep, LookupPriority priority) {
+        if (cep == null || cep.trim().isEmpty()) {
+            throw new IllegalArgumentException("CEP não pode ser nulo ou vazio.");
+        }
+        String cleanCep = cep.replaceAll("[^0-9]", "");
+        if (cleanCep.length() != 8) {
+            throw new IllegalArgumentException("CEP deve conter exatamente 8 dígitos.");
+        }
+
+        if (existenceIndex.isKnownMissing(cleanCep)) {
+            throw new AddressNotFoundException("CEP não encontrado: " + cep);
+        }
+        AddressInfo address = dataset.find(cleanCep);
+        if (address != null) {
+            return address;
+        }
+        if (!fallbackEnabled) {
+            throw new AddressNotFoundException("CEP não encontrado: " + cep);
+        }
+        log.debug("CEP {} not in offline dataset, falling back to ViaCEP", cleanCep);
+        return fallback.getAddressByCep(cleanCep, priority);
+    }
+
+    private static CepDataset loadDataset(String source, Path compiled, char delimiter) {
+        try {
+            if (!source.isBlank()) {
+                Path sourcePath = Path.of(source);
+                if (!Files.exists(compiled)
+                        || Files.getLastModifiedTime(compiled).compareTo(Files.getLastModifiedTime(sourcePath)) < 0) {
+                    CepDatasetCompiler.compile(sourcePath, compiled, delimiter);
+                }
+            }
+            if (!Files.exists(compiled)) {
+                throw new IllegalStateException("Arquivo de CEPs compilado não encontrado: " + compiled);
+            }
+            return CepDataset.open(compiled);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao carregar a base offline de CEPs", ex);
+        }
+    }
+}
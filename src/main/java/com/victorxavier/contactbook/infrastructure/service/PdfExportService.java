@@ -10,46 +10,63 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
-import java.util.List;
+import java.io.OutputStream;
 import java.util.stream.Stream;
 
+/**
+ * Renders the contact list as a PDF table written page by page. The table is marked incomplete
+ * and added to the document every {@value #FLUSH_ROWS} rows, which lets iText lay out and write
+ * the finished pages straight to the output and drop their rows, so memory stays bounded and the
+ * client starts receiving bytes right away. The header row is repeated on every page.
+ */
 @Service
 public class PdfExportService extends AbstractContactExportPort {
 
     private static final Logger log = LoggerFactory.getLogger(PdfExportService.class);
-    
+
+    private static final int FLUSH_ROWS = 500;
+    private static final String[] HEADERS = {"ID", "Nome", "Telefone", "CEP", "Logradouro", "Nº", "Cidade", "Estado"};
+    private static final float[] COLUMN_WIDTHS = {0.5f, 2f, 1.5f, 1f, 2f, 0.5f, 1.5f, 1.5f};
+    private static final BaseColor HEADER_COLOR = new BaseColor(52, 152, 219); // Cor azul
+
+    private final Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, BaseColor.BLACK);
+    private final Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, BaseColor.WHITE);
+    private final Font dataFont = FontFactory.getFont(FontFactory.HELVETICA, 9);
+
     public PdfExportService() {
         super("pdf", "application/pdf", "pdf");
     }
 
     @Override
-    public byte[] export(List<Contact> contacts) {
-        log.info("Generating PDF export for {} contacts", contacts.size());
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+    public void export(Stream<Contact> contacts, OutputStream outputStream) {
+        log.info("Generating PDF export");
+        try {
             Document document = new Document(PageSize.A4.rotate());
-            PdfWriter.getInstance(document, outputStream);
+            PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+            writer.setCloseStream(false);
 
             document.open();
 
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18, BaseColor.BLACK);
             Paragraph title = new Paragraph("Lista de Contatos", titleFont);
             title.setAlignment(Element.ALIGN_CENTER);
             title.setSpacingAfter(20);
             document.add(title);
 
-            PdfPTable table = new PdfPTable(8);
+            PdfPTable table = new PdfPTable(HEADERS.length);
             table.setWidthPercentage(100);
-            table.setWidths(new float[]{0.5f, 2f, 1.5f, 1f, 2f, 0.5f, 1.5f, 1.5f});
+            table.setWidths(COLUMN_WIDTHS);
+            table.setHeaderRows(1);
+            table.setComplete(false);
 
             addTableHeader(table);
-            addTableRows(table, contacts);
+            long rows = addTableRows(document, table, contacts);
 
+            table.setComplete(true);
             document.add(table);
             document.close();
 
-            log.info("PDF export generated successfully.");
-            return outputStream.toByteArray();
+            outputStream.flush();
+            log.info("PDF export generated successfully with {} contacts.", rows);
 
         } catch (Exception e) {
             log.error("Error exporting contacts to PDF", e);
@@ -58,23 +75,27 @@ public class PdfExportService extends AbstractContactExportPort {
     }
 
     private void addTableHeader(PdfPTable table) {
-        Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10, BaseColor.WHITE);
-        Stream.of("ID", "Nome", "Telefone", "CEP", "Logradouro", "Nº", "Cidade", "Estado")
-                .forEach(columnTitle -> {
-                    PdfPCell header = new PdfPCell();
-                    header.setBackgroundColor(new BaseColor(52, 152, 219)); // Cor azul
-                    header.setBorderWidth(1);
-                    header.setPhrase(new Phrase(columnTitle, headerFont));
-                    header.setHorizontalAlignment(Element.ALIGN_CENTER);
-                    header.setVerticalAlignment(Element.ALIGN_MIDDLE);
-                    header.setPadding(5);
-                    table.addCell(header);
-                });
+        PdfPCell template = new PdfPCell();
+        template.setBackgroundColor(HEADER_COLOR);
+        template.setBorderWidth(1);
+        template.setHorizontalAlignment(Element.ALIGN_CENTER);
+        template.setVerticalAlignment(Element.ALIGN_MIDDLE);
+        template.setPadding(5);
+        for (String columnTitle : HEADERS) {
+            PdfPCell header = new PdfPCell(template);
+            header.setPhrase(new Phrase(columnTitle, headerFont));
+            table.addCell(header);
+        }
     }
 
-    private void addTableRows(PdfPTable table, List<Contact> contacts) {
-        Font dataFont = FontFactory.getFont(FontFactory.HELVETICA, 9);
-        for (Contact contact : contacts) {
+    /**
+     * Adds the data rows through the table's default cell, flushing completed rows to the document
+     *
+     * @return the number of rows added
+     */
+    private long addTableRows(Document document, PdfPTable table, Stream<Contact> contacts) throws DocumentException {
+        long rows = 0;
+        for (Contact contact : (Iterable<Contact>) contacts::iterator) {
             table.addCell(new Phrase(String.valueOf(contact.getId()), dataFont));
             table.addCell(new Phrase(contact.getName(), dataFont));
             table.addCell(new Phrase(contact.getPhone(), dataFont));
@@ -83,8 +104,12 @@ public class PdfExportService extends AbstractContactExportPort {
             table.addCell(new Phrase(contact.getNumero() != null ? contact.getNumero().toString() : "", dataFont));
             table.addCell(new Phrase(contact.getCidade() != null ? contact.getCidade() : "", dataFont));
             table.addCell(new Phrase(contact.getEstado() != null ? contact.getEstado() : "", dataFont));
+            if (++rows % FLUSH_ROWS == 0) {
+                document.add(table);
+            }
         }
+        return rows;
     }
 
     // Methods for getMimeType, getFilename, and canHandle are inherited from AbstractContactExportPort
-}
\ No newline at end of file
+}
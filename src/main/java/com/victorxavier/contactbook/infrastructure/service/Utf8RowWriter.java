@@ -0,0 +1,166 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Buffered UTF-8 writer for the text export formats. Strings are encoded straight into a
+ * reusable byte buffer, with CSV or JSON escaping applied in the same pass, and numbers are
+ * written digit by digit, so writing a row allocates nothing. Not thread-safe.
+ */
+final class Utf8RowWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes();
+
+    private enum Escape { NONE, CSV, JSON }
+
+    private final OutputStream output;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] digits = new byte[20];
+    private int position;
+
+    Utf8RowWriter(OutputStream output) {
+        this.output = output;
+    }
+
+    void writeAscii(char c) throws IOException {
+        ensure(1);
+        buffer[position++] = (byte) c;
+    }
+
+    void write(String value) throws IOException {
+        encode(value, Escape.NONE);
+    }
+
+    /**
+     * Writes a CSV field, quoted only when it contains a delimiter, quote or line break
+     */
+    void writeCsvField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (needsQuotes(value)) {
+            writeAscii('"');
+            encode(value, Escape.CSV);
+            writeAscii('"');
+        } else {
+            encode(value, Escape.NONE);
+        }
+    }
+
+    /**
+     * Writes a JSON string literal, or {@code null}
+     */
+    void writeJsonString(String value) throws IOException {
+        if (value == null) {
+            write("null");
+            return;
+        }
+        writeAscii('"');
+        encode(value, Escape.JSON);
+        writeAscii('"');
+    }
+
+    void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            ensure(MIN_LONG.length);
+            System.arraycopy(MIN_LONG, 0, buffer, position, MIN_LONG.length);
+            position += MIN_LONG.length;
+            return;
+        }
+        ensure(digits.length);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int start = digits.length;
+        do {
+            digits[--start] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        int length = digits.length - start;
+        System.arraycopy(digits, start, buffer, position, length);
+        position += length;
+    }
+
+    void flush() throws IOException {
+        flushBuffer();
+        output.flush();
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void encode(String value, Escape escape) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            ensure(6);
+            if (c < 0x80) {
+                if (escape == Escape.CSV && c == '"') {
+                    buffer[position++] = '"';
+                    buffer[position++] = '"';
+                } else if (escape == Escape.JSON && (c == '"' || c == '\\' || c < 0x20)) {
+                    escapeJson(c);
+                } else {
+                    buffer[position++] = (byte) c;
+                }
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void escapeJson(char c) {
+        buffer[position++] = '\\';
+        switch (c) {
+            case '"' -> buffer[position++] = '"';
+            case '\\' -> buffer[position++] = '\\';
+            case '\n' -> buffer[position++] = 'n';
+            case '\r' -> buffer[position++] = 'r';
+            case '\t' -> buffer[position++] = 't';
+            default -> {
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX[c >> 4];
+                buffer[position++] = HEX[c & 0xF];
+            }
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (position + bytes > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            output.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
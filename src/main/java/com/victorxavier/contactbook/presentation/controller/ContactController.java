@@ -1,11 +1,21 @@
 package com.victorxavier.contactbook.presentation.controller;
 
+import com.victorxavier.contactbook.application.dto.request.ContactBatchCreateRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactBatchDeleteRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactBatchUpdateRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactLookupRequest;
 import com.victorxavier.contactbook.application.dto.request.ContactRequest;
 import com.victorxavier.contactbook.application.dto.request.ContactUpdateRequest;
+import com.victorxavier.contactbook.application.dto.response.ContactBatchResponse;
+import com.victorxavier.contactbook.application.dto.response.ContactLookupResponse;
 import com.victorxavier.contactbook.application.dto.response.ContactResponse;
 import com.victorxavier.contactbook.application.dto.response.ExportedFile;
+import com.victorxavier.contactbook.application.dto.response.ImportJobResponse;
 import com.victorxavier.contactbook.application.dto.response.PageResponse;
+import com.victorxavier.contactbook.application.port.in.ImportOptions;
+import com.victorxavier.contactbook.application.service.ContactBatchService;
 import com.victorxavier.contactbook.application.service.ContactService;
+import com.victorxavier.contactbook.application.service.ImportJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -24,8 +34,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -35,9 +48,15 @@ public class ContactController {
 
     private static final Logger log = LoggerFactory.getLogger(ContactController.class);
     private final ContactService contactService;
+    private final ImportJobService importJobService;
+    private final ContactBatchService contactBatchService;
 
-    public ContactController(ContactService contactService) {
+    public ContactController(ContactService contactService,
+                             ImportJobService importJobService,
+                             ContactBatchService contactBatchService) {
         this.contactService = contactService;
+        this.importJobService = importJobService;
+        this.contactBatchService = contactBatchService;
     }
 
     @PostMapping
@@ -46,6 +65,7 @@ public class ContactController {
             @ApiResponse(responseCode = "201", description = "Contact created successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data", content = @Content),
             @ApiResponse(responseCode = "404", description = "CEP not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Phone already used by another contact", content = @Content),
             @ApiResponse(responseCode = "502", description = "Address service unavailable", content = @Content)
     })
     public ResponseEntity<ContactResponse> createContact(
@@ -91,6 +111,77 @@ public class ContactController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create contacts in batch",
+            description = "Creates several contacts in one transaction, resolving each distinct CEP once, " +
+                    "and reports the outcome of each item")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each item"),
+            @ApiResponse(responseCode = "400", description = "Empty batch or too many items", content = @Content)
+    })
+    public ResponseEntity<ContactBatchResponse> createContacts(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Contacts to create",
+                    content = @Content(schema = @Schema(implementation = ContactBatchCreateRequest.class))
+            )
+            @Valid @RequestBody ContactBatchCreateRequest request) {
+        log.info("Creating {} contacts in batch", request.getItems().size());
+        return ResponseEntity.ok(contactBatchService.createAll(request));
+    }
+
+    @PatchMapping("/batch")
+    @Operation(summary = "Update contacts in batch",
+            description = "Applies the fields present in each item to the contact with its ID, in one transaction, " +
+                    "and reports the outcome of each item")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each item"),
+            @ApiResponse(responseCode = "400", description = "Empty batch or too many items", content = @Content)
+    })
+    public ResponseEntity<ContactBatchResponse> updateContacts(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Contacts to update",
+                    content = @Content(schema = @Schema(implementation = ContactBatchUpdateRequest.class))
+            )
+            @Valid @RequestBody ContactBatchUpdateRequest request) {
+        log.info("Updating {} contacts in batch", request.getItems().size());
+        return ResponseEntity.ok(contactBatchService.updateAll(request));
+    }
+
+    @DeleteMapping("/batch")
+    @Operation(summary = "Delete contacts in batch",
+            description = "Deletes the contacts with the given IDs in one transaction and reports the outcome of each ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each item"),
+            @ApiResponse(responseCode = "400", description = "Empty batch or too many items", content = @Content)
+    })
+    public ResponseEntity<ContactBatchResponse> deleteContacts(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs of the contacts to delete",
+                    content = @Content(schema = @Schema(implementation = ContactBatchDeleteRequest.class))
+            )
+            @Valid @RequestBody ContactBatchDeleteRequest request) {
+        log.info("Deleting {} contacts in batch", request.getIds().size());
+        return ResponseEntity.ok(contactBatchService.deleteAll(request));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Get contacts by IDs",
+            description = "Fetches several contacts with one query. Contacts are returned in request order " +
+                    "and IDs with no contact are listed instead of failing the request")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lookup completed"),
+            @ApiResponse(responseCode = "400", description = "Empty list or too many IDs", content = @Content)
+    })
+    public ResponseEntity<ContactLookupResponse> lookupContacts(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "IDs of the contacts to fetch",
+                    content = @Content(schema = @Schema(implementation = ContactLookupRequest.class))
+            )
+            @Valid @RequestBody ContactLookupRequest request) {
+        log.info("Looking up {} contacts by ID", request.getIds().size());
+        return ResponseEntity.ok(contactBatchService.findAll(request));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get contact by ID", description = "Retrieves a specific contact by its ID")
     @ApiResponses({
@@ -145,49 +236,86 @@ public class ContactController {
     }
 
     @PostMapping("/import")
-    @Operation(summary = "Import contacts", description = "Imports contacts from CSV file")
+    @Operation(summary = "Import contacts",
+            description = "Queues a CSV file for import and returns the job to poll for progress")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Contacts imported successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid file or processing error", content = @Content)
+            @ApiResponse(responseCode = "202", description = "Import queued"),
+            @ApiResponse(responseCode = "400", description = "Invalid file or processing error", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Too many imports in progress", content = @Content)
     })
-    public ResponseEntity<List<ContactResponse>> importContacts(
-            @Parameter(description = "CSV file containing contacts") @RequestParam("file") MultipartFile file) {
+    public ResponseEntity<ImportJobResponse> importContacts(
+            @Parameter(description = "CSV file containing contacts, optionally gzip or zip compressed") @RequestParam("file") MultipartFile file,
+            @Parameter(description = "How contacts are written: entity (JPA) or copy (bulk load, fastest)",
+                    schema = @Schema(type = "string", allowableValues = {"entity", "copy"}))
+            @RequestParam(value = "persistence", defaultValue = "${contactbook.import.persistence:entity}") String persistence,
+            @Parameter(description = "Rows whose phone already exists: insert (no check), skip or upsert (replace the stored contact)",
+                    schema = @Schema(type = "string", allowableValues = {"insert", "skip", "upsert"}))
+            @RequestParam(value = "duplicates", defaultValue = "${contactbook.import.duplicates:skip}") String duplicates) {
         log.info("Importing contacts from file: {}", file.getOriginalFilename());
 
         if (file.isEmpty()) {
             throw new IllegalArgumentException("File cannot be empty");
         }
 
-        List<ContactResponse> importedContacts = contactService.importFromCsv(file);
-        return ResponseEntity.ok(importedContacts);
+        ImportOptions options = new ImportOptions(ImportOptions.PersistenceMode.from(persistence),
+                ImportOptions.DuplicateMode.from(duplicates));
+        ImportJobResponse job = importJobService.submit(file, options);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/contacts/import/" + job.getJobId()))
+                .body(job);
+    }
+
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "Get import job",
+            description = "Reports progress and throughput of an import job, and its summary once finished")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import job found"),
+            @ApiResponse(responseCode = "404", description = "Import job not found", content = @Content)
+    })
+    public ResponseEntity<ImportJobResponse> getImportJob(
+            @Parameter(description = "Import job ID") @PathVariable String jobId) {
+        return ResponseEntity.ok(importJobService.getJob(jobId));
     }
 
     @GetMapping("/export")
     @Operation(
             summary = "Export contacts",
-            description = "Exports all contacts to a specified format (excel or pdf).",
+            description = "Exports all contacts to a specified format (excel, pdf, csv or ndjson). " +
+                    "csv and ndjson are the cheapest to produce and suit machine consumers. " +
+                    "The response carries an ETag that changes whenever contacts are written; " +
+                    "send it back in If-None-Match to get 304 Not Modified while the data is unchanged.",
             parameters = {
                     @Parameter(
                             name = "format",
                             description = "The desired export format.",
                             required = true,
-                            schema = @Schema(type = "string", allowableValues = {"excel", "pdf"}),
+                            schema = @Schema(type = "string", allowableValues = {"excel", "pdf", "csv", "ndjson"}),
                             example = "pdf"
                     )
             }
     )
-    @ApiResponse(responseCode = "200", description = "File generated successfully")
-    public ResponseEntity<byte[]> exportContacts(@RequestParam String format) {
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "File generated successfully"),
+            @ApiResponse(responseCode = "304", description = "Contacts unchanged since the export identified by If-None-Match", content = @Content)
+    })
+    public ResponseEntity<StreamingResponseBody> exportContacts(@RequestParam String format, WebRequest webRequest) {
 
         log.info("Requesting contact export for format: {}", format);
         ExportedFile exportedFile = contactService.export(format);
 
+        if (webRequest.checkNotModified(exportedFile.getEtag())) {
+            log.info("Contacts unchanged since the client's {} export, answering 304", format);
+            return null;
+        }
+
         HttpHeaders headers = new HttpHeaders();
+        headers.setETag(exportedFile.getEtag());
         headers.setContentType(MediaType.parseMediaType(exportedFile.getContentType()));
         headers.setContentDispositionFormData("attachment", exportedFile.getFilename());
 
+        StreamingResponseBody body = exportedFile::writeTo;
         return ResponseEntity.ok()
                 .headers(headers)
-                .body(exportedFile.getData());
+                .body(body);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS cep_address (
+    cep VARCHAR(8) PRIMARY KEY,
+    logradouro VARCHAR(255),
+    bairro VARCHAR(255),
+    cidade VARCHAR(255),
+    estado VARCHAR(255),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+    );
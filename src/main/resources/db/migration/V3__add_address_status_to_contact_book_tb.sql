@@ -0,0 +1,6 @@
+ALTER TABLE contact_book_tb
+    ADD COLUMN IF NOT EXISTS address_status VARCHAR(20) NOT NULL DEFAULT 'RESOLVED';
+
+CREATE INDEX IF NOT EXISTS idx_contact_book_tb_address_pending
+    ON contact_book_tb (id)
+    WHERE address_status = 'PENDING';
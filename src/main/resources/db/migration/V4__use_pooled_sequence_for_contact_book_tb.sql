@@ -0,0 +1,9 @@
+-- Ids are now allocated by Hibernate in blocks of 50 (pooled optimizer), which lets inserts be batched.
+-- Each nextval reserves the 50 ids ending at the returned value.
+ALTER SEQUENCE contact_book_tb_id_seq INCREMENT BY 50;
+
+-- Move past every id already handed out, so the next block never starts at the sequence's initial value.
+SELECT setval('contact_book_tb_id_seq',
+              GREATEST((SELECT COALESCE(MAX(id), 1) FROM contact_book_tb),
+                       (SELECT last_value FROM contact_book_tb_id_seq)),
+              true);
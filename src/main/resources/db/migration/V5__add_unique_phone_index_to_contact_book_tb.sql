@@ -0,0 +1,29 @@
+-- One contact per phone, compared on digits only so "(11) 99999-8888" and "11999998888" collide.
+-- Phones without any digit are not checked: imports do not validate phones, and such rows must not
+-- collide with each other.
+-- Tables that already hold duplicates fail this migration, so every environment ends up with the same
+-- constraint. List them with
+--   SELECT regexp_replace(phone, '\D', '', 'g') AS digits, array_agg(id ORDER BY id) AS ids
+--   FROM contact_book_tb
+--   WHERE regexp_replace(phone, '\D', '', 'g') <> ''
+--   GROUP BY 1 HAVING COUNT(*) > 1;
+-- merge or delete them, then start the application again.
+DO $$
+DECLARE
+    duplicates BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO duplicates
+    FROM (SELECT 1
+          FROM contact_book_tb
+          WHERE regexp_replace(phone, '\D', '', 'g') <> ''
+          GROUP BY regexp_replace(phone, '\D', '', 'g')
+          HAVING COUNT(*) > 1) AS repeated;
+    IF duplicates > 0 THEN
+        RAISE EXCEPTION 'contact_book_tb has % phone numbers shared by more than one contact', duplicates
+            USING HINT = 'Merge or delete the duplicates listed by the query in V5__add_unique_phone_index_to_contact_book_tb.sql, then run the migration again.';
+    END IF;
+END $$;
+
+CREATE UNIQUE INDEX ux_contact_book_tb_phone_digits
+    ON contact_book_tb (regexp_replace(phone, '\D', '', 'g'))
+    WHERE regexp_replace(phone, '\D', '', 'g') <> '';
@@ -0,0 +1,8 @@
+-- Single-row counter incremented by every transaction that writes contacts, just before it commits.
+-- Rendered exports are cached per version, so any committed change invalidates them.
+CREATE TABLE IF NOT EXISTS contact_book_version (
+    id      SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT   NOT NULL
+);
+
+INSERT INTO contact_book_version (id, version) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
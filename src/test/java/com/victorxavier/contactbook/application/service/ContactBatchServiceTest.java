@@ -0,0 +1,153 @@
+package com.victorxavier.contactbook.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import com.victorxavier.contactbook.application.dto.request.ContactBatchCreateRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactBatchDeleteRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactLookupRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactRequest;
+import com.victorxavier.contactbook.application.dto.response.ContactBatchItemResponse;
+import com.victorxavier.contactbook.application.dto.response.ContactBatchResponse;
+import com.victorxavier.contactbook.application.dto.response.ContactLookupResponse;
+import com.victorxavier.contactbook.application.dto.response.ContactResponse;
+import com.victorxavier.contactbook.application.mapper.ContactMapper;
+import com.victorxavier.contactbook.domain.entity.Contact;
+import com.victorxavier.contactbook.domain.repository.ContactRepository;
+import com.victorxavier.contactbook.domain.service.AddressService;
+import com.victorxavier.contactbook.infrastructure.cache.CepExistenceIndex;
+import com.victorxavier.contactbook.infrastructure.exception.AddressNotFoundException;
+import com.victorxavier.contactbook.infrastructure.persistence.TransactionRunner;
+import com.victorxavier.contactbook.infrastructure.service.AddressBatchResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContactBatchService Tests")
+class ContactBatchServiceTest {
+
+    @Mock
+    private ContactRepository contactRepository;
+
+    @Mock
+    private AddressService addressService;
+
+    private ContactBatchServiceImpl batchService;
+
+    @BeforeEach
+    void setUp() {
+        AddressBatchResolver addressResolver =
+                new AddressBatchResolver(addressService, new CepExistenceIndex(new SimpleMeterRegistry(), true));
+        TransactionRunner transactionRunner =
+                new TransactionRunner(mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        batchService = new ContactBatchServiceImpl(contactRepository, addressResolver, new ContactMapper(),
+                transactionRunner, Validation.buildDefaultValidatorFactory().getValidator(), 500, 1000, 4, false);
+    }
+
+    @Test
+    @DisplayName("Should resolve each distinct CEP once and report the status of each item")
+    void shouldCreateBatchWithPerItemStatus() {
+
+        when(addressService.getAddressByCep("01001000", AddressService.LookupPriority.INTERACTIVE))
+                .thenReturn(new AddressService.AddressInfo("Praça da Sé", "Sé", "São Paulo", "SP"));
+        when(addressService.getAddressByCep("99999999", AddressService.LookupPriority.INTERACTIVE))
+                .thenThrow(new AddressNotFoundException("CEP não encontrado: 99999999"));
+        AtomicLong ids = new AtomicLong();
+        when(contactRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Contact> contacts = invocation.getArgument(0);
+            contacts.forEach(contact -> contact.setId(ids.incrementAndGet()));
+            return contacts;
+        });
+
+        ContactBatchResponse response = batchService.createAll(new ContactBatchCreateRequest(List.of(
+                new ContactRequest("Ana Souza", "11911111111", "01001000", 1),
+                new ContactRequest("B", "123", "01001000", 2),
+                new ContactRequest("Caio Lima", "11933333333", "99999999", 3),
+                new ContactRequest("Davi Rocha", "11944444444", "01001000", 4))));
+
+        assertThat(response.getItems()).extracting(ContactBatchItemResponse::getStatus).containsExactly(
+                ContactBatchItemResponse.Status.CREATED,
+                ContactBatchItemResponse.Status.INVALID,
+                ContactBatchItemResponse.Status.ADDRESS_NOT_FOUND,
+                ContactBatchItemResponse.Status.CREATED);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getItems().get(1).getErrors()).hasSize(2);
+        assertThat(response.getItems().get(3).getContact().getCidade()).isEqualTo("São Paulo");
+        verify(addressService, times(1)).getAddressByCep("01001000", AddressService.LookupPriority.INTERACTIVE);
+        verify(contactRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should report items whose phone is stored or repeated in the batch as conflicts")
+    void shouldRejectPhoneConflictsPerItem() {
+
+        when(addressService.getAddressByCep("01001000", AddressService.LookupPriority.INTERACTIVE))
+                .thenReturn(new AddressService.AddressInfo("Praça da Sé", "Sé", "São Paulo", "SP"));
+        when(contactRepository.findIdsByNormalizedPhone(anyCollection())).thenReturn(Map.of("11911111111", 7L));
+        when(contactRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ContactBatchResponse response = batchService.createAll(new ContactBatchCreateRequest(List.of(
+                new ContactRequest("Ana Souza", "11911111111", "01001000", 1),
+                new ContactRequest("Bia Alves", "11922222222", "01001000", 2),
+                new ContactRequest("Bia Costa", "11922222222", "01001000", 3))));
+
+        assertThat(response.getItems()).extracting(ContactBatchItemResponse::getStatus).containsExactly(
+                ContactBatchItemResponse.Status.CONFLICT,
+                ContactBatchItemResponse.Status.CREATED,
+                ContactBatchItemResponse.Status.CONFLICT);
+        assertThat(response.getItems().get(0).getErrors().get(0).getMessage()).contains("7");
+        verify(contactRepository).findIdsByNormalizedPhone(Set.of("11911111111", "11922222222"));
+        verify(contactRepository).saveAll(argThat(contacts -> contacts.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should delete existing contacts and report missing and repeated IDs")
+    void shouldDeleteBatchWithPerItemStatus() {
+
+        Contact existing = new Contact(1L, "Ana Souza", "11911111111", "01001000", 1);
+        when(contactRepository.findAllById(anyCollection())).thenReturn(List.of(existing));
+        ContactBatchDeleteRequest request = new ContactBatchDeleteRequest();
+        request.setIds(Arrays.asList(1L, 2L, 1L, null));
+
+        ContactBatchResponse response = batchService.deleteAll(request);
+
+        assertThat(response.getItems()).extracting(ContactBatchItemResponse::getStatus).containsExactly(
+                ContactBatchItemResponse.Status.DELETED,
+                ContactBatchItemResponse.Status.NOT_FOUND,
+                ContactBatchItemResponse.Status.INVALID,
+                ContactBatchItemResponse.Status.INVALID);
+        verify(contactRepository).deleteAllById(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("Should return looked up contacts in request order and list missing IDs")
+    void shouldLookupContactsInRequestOrder() {
+
+        when(contactRepository.findAllById(anyCollection())).thenReturn(List.of(
+                new Contact(1L, "Ana Souza", "11911111111", "01001000", 1),
+                new Contact(3L, "Caio Lima", "11933333333", "01001000", 3)));
+
+        ContactLookupResponse response = batchService.findAll(new ContactLookupRequest(List.of(3L, 2L, 1L, 3L)));
+
+        assertThat(response.getContacts()).extracting(ContactResponse::getId).containsExactly(3L, 1L);
+        assertThat(response.getMissingIds()).containsExactly(2L);
+        verify(contactRepository, times(1)).findAllById(anyCollection());
+    }
+}
@@ -3,24 +3,59 @@ package com.victorxavier.contactbook.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.victorxavier.contactbook.application.mapper.ContactMapper;
+import com.victorxavier.contactbook.application.port.in.ImportOptions;
+import com.victorxavier.contactbook.application.port.in.ImportProgress;
 import com.victorxavier.contactbook.domain.service.AddressService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Map;
+import java.util.stream.Stream;
+
 import com.victorxavier.contactbook.application.dto.request.ContactRequest;
+import com.victorxavier.contactbook.application.dto.request.ContactUpdateRequest;
 import com.victorxavier.contactbook.application.dto.response.ContactResponse;
+import com.victorxavier.contactbook.application.dto.response.ExportedFile;
+import com.victorxavier.contactbook.application.dto.response.ImportSummaryResponse;
+import com.victorxavier.contactbook.domain.entity.AddressStatus;
 import com.victorxavier.contactbook.domain.entity.Contact;
 import com.victorxavier.contactbook.domain.repository.ContactRepository;
+import com.victorxavier.contactbook.infrastructure.cache.CepExistenceIndex;
+import com.victorxavier.contactbook.infrastructure.cache.ExportFileCache;
 import com.victorxavier.contactbook.infrastructure.exception.AddressNotFoundException;
+import com.victorxavier.contactbook.infrastructure.exception.ContactNotFoundException;
 import com.victorxavier.contactbook.infrastructure.exception.ExternalServiceException;
+import com.victorxavier.contactbook.infrastructure.persistence.TransactionRunner;
+import com.victorxavier.contactbook.infrastructure.service.AddressBatchResolver;
+import com.victorxavier.contactbook.infrastructure.service.ContactDuplicateDetector;
+import com.victorxavier.contactbook.infrastructure.service.CsvExportService;
+import com.victorxavier.contactbook.infrastructure.service.CsvImportService;
+import com.victorxavier.contactbook.infrastructure.service.PdfExportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ContactService Tests")
@@ -35,9 +70,14 @@ class ContactServiceTest {
     @Mock
     private ContactMapper contactMapper;
 
-    @InjectMocks
     private ContactServiceImpl contactService;
 
+    private final TransactionRunner transactionRunner =
+            new TransactionRunner(mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    private final ExportFileCache disabledExportCache =
+            new ExportFileCache(new SimpleMeterRegistry(), "build1", false, Path.of("export-cache"));
+
     private ContactRequest contactRequest;
     private Contact contact;
     private ContactResponse contactResponse;
@@ -45,6 +85,9 @@ class ContactServiceTest {
 
     @BeforeEach
     void setUp() {
+        contactService = new ContactServiceImpl(contactRepository, addressService, contactMapper,
+                null, List.of(), disabledExportCache, transactionRunner, false, 1000);
+
         contactRequest = new ContactRequest();
         contactRequest.setName("João da Silva");
         contactRequest.setPhone("11987654321");
@@ -135,4 +178,168 @@ class ContactServiceTest {
         verify(contactRepository, never()).save(any());
         verify(contactMapper, never()).toResponse(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should save contact with pending address when async enrichment is enabled")
+    void shouldSaveContactWithPendingAddressWhenAsyncEnrichmentEnabled() {
+
+        ContactServiceImpl asyncContactService = new ContactServiceImpl(contactRepository, addressService,
+                contactMapper, null, List.of(), disabledExportCache, transactionRunner, true, 1000);
+        when(contactMapper.toEntity(contactRequest)).thenReturn(contact);
+        when(contactRepository.save(any(Contact.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(contactMapper.toResponse(contact)).thenReturn(contactResponse);
+
+        asyncContactService.save(contactRequest);
+
+        assertThat(contact.getAddressStatus()).isEqualTo(AddressStatus.PENDING);
+        assertThat(contact.getLogradouro()).isNull();
+        verifyNoInteractions(addressService);
+        verify(contactRepository).save(contact);
+    }
+
+    @Test
+    @DisplayName("Should reload the contact inside the write transaction when updating")
+    void shouldUpdateContactLoadedInWriteTransaction() {
+
+        ContactServiceImpl updatingContactService = new ContactServiceImpl(contactRepository, addressService,
+                new ContactMapper(), null, List.of(), disabledExportCache, transactionRunner, false, 1000);
+        ContactUpdateRequest request = new ContactUpdateRequest();
+        request.setCep("20040-002");
+        when(contactRepository.findById(1L)).thenAnswer(invocation ->
+                Optional.of(new Contact(1L, "João da Silva", "11987654321", "01001000", 123)));
+        when(addressService.getAddressByCep("20040002")).thenReturn(addressInfo);
+        when(contactRepository.save(any(Contact.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ContactResponse response = updatingContactService.update(1L, request);
+
+        assertThat(response.getCep()).isEqualTo("20040002");
+        assertThat(response.getLogradouro()).isEqualTo("Rua Teste");
+        verify(contactRepository, times(2)).findById(1L);
+        verify(addressService, times(1)).getAddressByCep("20040002");
+    }
+
+    @Test
+    @DisplayName("Should not re-create a contact deleted while its new address was being resolved")
+    void shouldNotRecreateContactDeletedDuringUpdate() {
+
+        ContactServiceImpl updatingContactService = new ContactServiceImpl(contactRepository, addressService,
+                new ContactMapper(), null, List.of(), disabledExportCache, transactionRunner, false, 1000);
+        ContactUpdateRequest request = new ContactUpdateRequest();
+        request.setCep("20040002");
+        when(contactRepository.findById(1L)).thenReturn(Optional.of(contact), Optional.empty());
+        when(addressService.getAddressByCep("20040002")).thenReturn(addressInfo);
+
+        assertThrows(ContactNotFoundException.class, () -> updatingContactService.update(1L, request));
+        verify(contactRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should stream CSV import and commit one chunk at a time")
+    void shouldImportCsvInChunks() {
+
+        AddressBatchResolver addressResolver =
+                new AddressBatchResolver(addressService, new CepExistenceIndex(new SimpleMeterRegistry(), true));
+        CsvImportService csvImportService = new CsvImportService(addressResolver,
+                new ContactDuplicateDetector(contactRepository, transactionRunner), 4, DataSize.ofGigabytes(1));
+        ContactServiceImpl chunkedContactService = new ContactServiceImpl(contactRepository, addressService,
+                contactMapper, csvImportService, List.of(), disabledExportCache, transactionRunner, false, 2);
+        when(addressService.getAddressByCep(anyString(), eq(AddressService.LookupPriority.BULK))).thenReturn(addressInfo);
+        when(contactRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ByteArrayInputStream input = new ByteArrayInputStream((
+                "name,phone,cep,numero\n" +
+                "Ana,11911111111,01001000,1\n" +
+                "Bia,11922222222,01001000,2\n" +
+                "invalid line\n" +
+                "Caio,11933333333,01001000,3\n" +
+                "Davi,11944444444,01001000,4\n" +
+                "Eva,11955555555,01001000,5\n").getBytes(StandardCharsets.UTF_8));
+
+        ImportProgress progress = new ImportProgress();
+
+        ImportSummaryResponse summary = chunkedContactService.importFromCsv(input, "contacts.csv",
+                new ImportOptions(ImportOptions.PersistenceMode.ENTITY), progress);
+
+        assertThat(summary.getRowsRead()).isEqualTo(6);
+        assertThat(progress.getRowsEnriched()).isEqualTo(5);
+        assertThat(summary.getRowsSkipped()).isEqualTo(1);
+        assertThat(summary.getImported()).isEqualTo(5);
+        assertThat(summary.getChunks()).isEqualTo(3);
+        verify(contactRepository, times(3)).saveAll(anyList());
+        verify(addressService, times(3)).getAddressByCep("01001000", AddressService.LookupPriority.BULK);
+    }
+
+    @Test
+    @DisplayName("Should skip rows whose phone is already stored or repeated in the file")
+    void shouldSkipDuplicatePhonesOnImport() {
+
+        AddressBatchResolver addressResolver =
+                new AddressBatchResolver(addressService, new CepExistenceIndex(new SimpleMeterRegistry(), true));
+        CsvImportService csvImportService = new CsvImportService(addressResolver,
+                new ContactDuplicateDetector(contactRepository, transactionRunner), 4, DataSize.ofGigabytes(1));
+        ContactServiceImpl dedupContactService = new ContactServiceImpl(contactRepository, addressService,
+                contactMapper, csvImportService, List.of(), disabledExportCache, transactionRunner, false, 1000);
+        when(contactRepository.count()).thenReturn(1L);
+        when(contactRepository.streamPhones()).thenReturn(Stream.of("(11) 91111-1111"));
+        when(contactRepository.findIdsByNormalizedPhone(anyCollection())).thenReturn(Map.of("11911111111", 7L));
+        when(addressService.getAddressByCep(anyString(), eq(AddressService.LookupPriority.BULK))).thenReturn(addressInfo);
+        when(contactRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ByteArrayInputStream input = new ByteArrayInputStream((
+                "name,phone,cep,numero\n" +
+                "Ana,11911111111,01001000,1\n" +
+                "Bia,11922222222,01001000,2\n" +
+                "Bia,(11) 92222-2222,01001000,2\n").getBytes(StandardCharsets.UTF_8));
+
+        ImportSummaryResponse summary = dedupContactService.importFromCsv(input, "contacts.csv",
+                new ImportOptions(ImportOptions.PersistenceMode.ENTITY, ImportOptions.DuplicateMode.SKIP),
+                new ImportProgress());
+
+        assertThat(summary.getImported()).isEqualTo(1);
+        assertThat(summary.getDuplicatesSkipped()).isEqualTo(2);
+        verify(contactRepository).saveAll(argThat(contacts -> contacts.size() == 1
+                && contacts.get(0).getPhone().equals("11922222222")));
+    }
+
+    @Test
+    @DisplayName("Should stream export from the repository cursor into the output")
+    void shouldStreamExport() throws IOException {
+
+        ContactServiceImpl exportingContactService = new ContactServiceImpl(contactRepository, addressService,
+                contactMapper, null, List.of(new PdfExportService()), disabledExportCache, transactionRunner, false, 1000);
+        when(contactRepository.streamAll()).thenReturn(Stream.of(contact));
+
+        ExportedFile exportedFile = exportingContactService.export("pdf");
+        verify(contactRepository, never()).streamAll();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportedFile.writeTo(output);
+
+        assertThat(exportedFile.getFilename()).isEqualTo("contacts.pdf");
+        assertThat(new String(output.toByteArray(), 0, 4, StandardCharsets.ISO_8859_1)).isEqualTo("%PDF");
+        verify(contactRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated export of the same build and data version from the export cache")
+    void shouldServeRepeatedExportFromCache(@TempDir Path cacheDirectory) throws IOException {
+
+        ContactServiceImpl cachingContactService = new ContactServiceImpl(contactRepository, addressService,
+                contactMapper, null, List.of(new CsvExportService()),
+                new ExportFileCache(new SimpleMeterRegistry(), "build1", true, cacheDirectory), transactionRunner, false, 1000);
+        when(contactRepository.getDataVersion()).thenReturn(3L);
+        when(contactRepository.streamAll()).thenReturn(Stream.of(contact));
+        Path previousBuild = Files.writeString(cacheDirectory.resolve("csv-build0-3.export"), "rendered by the previous release");
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ExportedFile firstExport = cachingContactService.export("csv");
+        firstExport.writeTo(first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        ExportedFile secondExport = cachingContactService.export("CSV");
+        secondExport.writeTo(second);
+
+        assertThat(firstExport.getEtag()).isEqualTo("W/\"csv-build1-3\"").isEqualTo(secondExport.getEtag());
+        assertThat(second.toByteArray()).isEqualTo(first.toByteArray());
+        assertThat(cacheDirectory.resolve("csv-build1-3.export")).exists();
+        assertThat(previousBuild).doesNotExist();
+        assertThat(first.toString(StandardCharsets.UTF_8)).startsWith("name,phone");
+        verify(contactRepository, times(1)).streamAll();
+    }
+}
@@ -0,0 +1,107 @@
+package com.victorxavier.contactbook.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.victorxavier.contactbook.domain.service.AddressService.LookupPriority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("PriorityRateLimiter Tests")
+class PriorityRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should serve a waiting interactive caller before bulk callers that queued earlier")
+    void shouldServeInteractiveLaneFirst() throws Exception {
+
+        PriorityRateLimiter limiter = limiter(2, new ViaCepRateLimitProperties.Lane(10, Duration.ofSeconds(5)));
+        assertThat(limiter.acquire(LookupPriority.BULK)).isTrue();
+        List<LookupPriority> served = new CopyOnWriteArrayList<>();
+
+        Future<?> firstBulk = callers.submit(() -> acquireInto(limiter, LookupPriority.BULK, served));
+        Future<?> secondBulk = callers.submit(() -> acquireInto(limiter, LookupPriority.BULK, served));
+        await().atMost(Duration.ofSeconds(1)).until(() -> waiting(LookupPriority.BULK) == 2);
+        Future<?> interactive = callers.submit(() -> acquireInto(limiter, LookupPriority.INTERACTIVE, served));
+
+        interactive.get(5, TimeUnit.SECONDS);
+        firstBulk.get(5, TimeUnit.SECONDS);
+        secondBulk.get(5, TimeUnit.SECONDS);
+        assertThat(served).containsExactly(LookupPriority.INTERACTIVE, LookupPriority.BULK, LookupPriority.BULK);
+    }
+
+    @Test
+    @DisplayName("Should reject a caller right away when its lane queue is full")
+    void shouldRejectBeyondMaxQueue() {
+
+        PriorityRateLimiter limiter = limiter(0.01, new ViaCepRateLimitProperties.Lane(1, Duration.ofSeconds(10)));
+        assertThat(limiter.acquire(LookupPriority.BULK)).isTrue();
+        callers.submit(() -> limiter.acquire(LookupPriority.BULK));
+        await().atMost(Duration.ofSeconds(1)).until(() -> waiting(LookupPriority.BULK) == 1);
+
+        long start = System.nanoTime();
+        boolean acquired = limiter.acquire(LookupPriority.BULK);
+
+        assertThat(acquired).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(500));
+        assertThat(rejected(LookupPriority.BULK)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give up on a bulk caller once its maximum wait elapses")
+    void shouldTimeOutBulkCallerAtMaxWait() {
+
+        PriorityRateLimiter limiter = limiter(0.01, new ViaCepRateLimitProperties.Lane(10, Duration.ofMillis(200)));
+        assertThat(limiter.acquire(LookupPriority.BULK)).isTrue();
+
+        long start = System.nanoTime();
+        boolean acquired = limiter.acquire(LookupPriority.BULK);
+
+        assertThat(acquired).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - start))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(200))
+                .isLessThan(Duration.ofSeconds(2));
+        assertThat(rejected(LookupPriority.BULK)).isEqualTo(1);
+        assertThat(waiting(LookupPriority.BULK)).isZero();
+    }
+
+    private PriorityRateLimiter limiter(double permitsPerSecond, ViaCepRateLimitProperties.Lane bulk) {
+        ViaCepRateLimitProperties properties = new ViaCepRateLimitProperties();
+        properties.setPermitsPerSecond(permitsPerSecond);
+        properties.setBurst(1);
+        properties.setInteractive(new ViaCepRateLimitProperties.Lane(10, Duration.ofSeconds(5)));
+        properties.setBulk(bulk);
+        return new PriorityRateLimiter(properties, meterRegistry);
+    }
+
+    private static void acquireInto(PriorityRateLimiter limiter, LookupPriority lane, List<LookupPriority> served) {
+        if (limiter.acquire(lane)) {
+            served.add(lane);
+        }
+    }
+
+    private double waiting(LookupPriority lane) {
+        return meterRegistry.get("viacep.ratelimiter.waiting").tag("lane", lane.name().toLowerCase()).gauge().value();
+    }
+
+    private double rejected(LookupPriority lane) {
+        return meterRegistry.get("viacep.ratelimiter.rejected").tag("lane", lane.name().toLowerCase()).counter().count();
+    }
+}
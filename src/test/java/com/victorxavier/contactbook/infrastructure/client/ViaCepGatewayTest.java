@@ -0,0 +1,50 @@
+package com.victorxavier.contactbook.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.victorxavier.contactbook.domain.service.AddressService.LookupPriority;
+import com.victorxavier.contactbook.infrastructure.exception.ExternalServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+@DisplayName("ViaCepGateway Tests")
+class ViaCepGatewayTest {
+
+    @Test
+    @DisplayName("Should not take rate limit tokens for calls shed by an open circuit")
+    void shouldNotUseTokensWhileCircuitIsOpen() {
+
+        ViaCepClient viaCepClient = mock(ViaCepClient.class);
+        when(viaCepClient.getAddress(anyString())).thenThrow(new IllegalStateException("connection reset"));
+        ViaCepResilienceProperties resilience = new ViaCepResilienceProperties();
+        resilience.setSlidingWindowSize(2);
+        resilience.setMinimumCalls(2);
+        resilience.setWaitInOpenState(Duration.ofMinutes(1));
+        ViaCepRateLimitProperties rateLimit = new ViaCepRateLimitProperties();
+        rateLimit.setPermitsPerSecond(0.01);
+        rateLimit.setBurst(5);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ViaCepGateway gateway = new ViaCepGateway(viaCepClient, resilience, rateLimit, meterRegistry);
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(ExternalServiceException.class,
+                    () -> gateway.fetch("01001000", "01001000", LookupPriority.BULK));
+        }
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.state").tag("state", "open").gauge().value())
+                .isEqualTo(1);
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(ExternalServiceException.class,
+                    () -> gateway.fetch("01001000", "01001000", LookupPriority.BULK));
+        }
+
+        assertThat(meterRegistry.get("viacep.ratelimiter.available").gauge().value()).isEqualTo(3);
+        verify(viaCepClient, times(2)).getAddress("01001000");
+    }
+}
@@ -0,0 +1,72 @@
+package com.victorxavier.contactbook.infrastructure.csv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.victorxavier.contactbook.infrastructure.exception.CsvProcessingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@DisplayName("CsvInputDecompressor Tests")
+class CsvInputDecompressorTest {
+
+    private static final String CSV = "name,phone,cep,numero\nAna,11911111111,01001000,1\n";
+
+    @Test
+    @DisplayName("Should detect gzip, zip and plain input by content")
+    void shouldDecompressByMagicBytes() throws IOException {
+
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(CSV.getBytes(StandardCharsets.UTF_8));
+        }
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(zip)) {
+            out.putNextEntry(new ZipEntry("export/"));
+            out.putNextEntry(new ZipEntry("__MACOSX/._contacts.csv"));
+            out.write(new byte[]{0, 1, 2});
+            out.putNextEntry(new ZipEntry("export/contacts.csv"));
+            out.write(CSV.getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThat(read(gzip.toByteArray(), "contacts.csv")).isEqualTo(CSV);
+        assertThat(read(zip.toByteArray(), "contacts.zip")).isEqualTo(CSV);
+        assertThat(read(CSV.getBytes(StandardCharsets.UTF_8), "contacts.csv.gz")).isEqualTo(CSV);
+    }
+
+    @Test
+    @DisplayName("Should fail once compressed input expands beyond the limit")
+    void shouldRejectInputBeyondDecompressedLimit() throws IOException {
+
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(new byte[4 * 1024 * 1024]);
+        }
+
+        CsvProcessingException ex = assertThrows(CsvProcessingException.class, () -> {
+            try (InputStream input = CsvInputDecompressor.open(
+                    new ByteArrayInputStream(gzip.toByteArray()), "bomb.csv.gz", 1024 * 1024)) {
+                input.transferTo(OutputStream.nullOutputStream());
+            }
+        });
+        assertThat(gzip.size()).isLessThan(10 * 1024);
+        assertThat(ex.getMessage()).contains("1 MB");
+    }
+
+    private static String read(byte[] content, String fileName) throws IOException {
+        try (InputStream input = CsvInputDecompressor.open(new ByteArrayInputStream(content), fileName, 1024 * 1024)) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
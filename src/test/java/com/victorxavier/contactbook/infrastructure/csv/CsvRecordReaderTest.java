@@ -0,0 +1,67 @@
+package com.victorxavier.contactbook.infrastructure.csv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+@DisplayName("CsvRecordReader Tests")
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("Should read quoted fields with delimiters, escaped quotes and line breaks")
+    void shouldReadQuotedFields() throws IOException {
+
+        String csv = "name,phone\r\n" +
+                "\"Silva, João\",\"say \"\"hi\"\"\"\r\n" +
+                "\"multi\nline\",plain\n";
+
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv), ',')) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.field(1)).isEqualTo("phone");
+
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.fieldCount()).isEqualTo(2);
+            assertThat(reader.field(0)).isEqualTo("Silva, João");
+            assertThat(reader.field(1)).isEqualTo("say \"hi\"");
+            assertThat(reader.lineNumber()).isEqualTo(2);
+
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.field(0)).isEqualTo("multi\nline");
+            assertThat(reader.field(1)).isEqualTo("plain");
+            assertThat(reader.lineNumber()).isEqualTo(3);
+
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle BOM, empty lines, empty fields and a missing final line break")
+    void shouldHandleEdgeCases() throws IOException {
+
+        String csv = "\uFEFFa,b\n\n,,\nlast,row";
+
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv), ',')) {
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.field(0)).isEqualTo("a");
+
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.isEmptyLine()).isTrue();
+
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.fieldCount()).isEqualTo(3);
+            assertThat(reader.isEmptyLine()).isFalse();
+            assertThat(reader.field(2)).isEmpty();
+
+            assertThat(reader.next()).isTrue();
+            assertThat(reader.field(1)).isEqualTo("row");
+            assertThat(reader.field(2)).isNull();
+            assertThat(reader.lineNumber()).isEqualTo(4);
+
+            assertThat(reader.next()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.victorxavier.contactbook.infrastructure.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.victorxavier.contactbook.domain.service.AddressService.AddressInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("CepDataset Tests")
+class CepDatasetTest {
+
+    @Test
+    @DisplayName("Should compile a CSV into a directory that does not exist yet and read it back")
+    void shouldRoundTripCompiledDataset(@TempDir Path directory) throws IOException {
+
+        Path source = directory.resolve("ceps.csv");
+        Files.writeString(source,
+                "cep;logradouro;bairro;cidade;uf\n" +
+                "20040-002;Avenida Rio Branco;Centro;Rio de Janeiro;RJ\n" +
+                "01001000;Praça da Sé;Sé;São Paulo;SP\n" +
+                "\n" +
+                "123;Linha inválida;;;\n" +
+                "01001001;;Sé;São Paulo;SP\n" +
+                "20040002;Avenida Rio Branco;Centro;Rio de Janeiro;RJ\n" +
+                "01001000;Praça da Sé - lado ímpar;Sé;São Paulo;SP\n",
+                StandardCharsets.UTF_8);
+        Path target = directory.resolve("data").resolve("cep-dataset.bin");
+
+        int written = CepDatasetCompiler.compile(source, target, ';');
+        CepDataset dataset = CepDataset.open(target);
+
+        assertThat(written).isEqualTo(3);
+        assertThat(dataset.size()).isEqualTo(3);
+        List<Integer> ceps = new ArrayList<>();
+        dataset.forEachCep(ceps::add);
+        assertThat(ceps).containsExactly(1001000, 1001001, 20040002);
+
+        AddressInfo repeated = dataset.find("01001000");
+        assertThat(repeated.getLogradouro()).isEqualTo("Praça da Sé - lado ímpar");
+        assertThat(repeated.getBairro()).isEqualTo("Sé");
+        assertThat(repeated.getCidade()).isEqualTo("São Paulo");
+        assertThat(repeated.getEstado()).isEqualTo("SP");
+
+        AddressInfo withoutStreet = dataset.find("01001001");
+        assertThat(withoutStreet.getLogradouro()).isNull();
+        assertThat(withoutStreet.getCidade()).isEqualTo("São Paulo");
+
+        assertThat(dataset.find("20040002").getEstado()).isEqualTo("RJ");
+        assertThat(dataset.find("00000000")).isNull();
+        assertThat(dataset.find("99999999")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep quoted values that contain the delimiter in one field")
+    void shouldReadQuotedFieldsWithDelimiter(@TempDir Path directory) throws IOException {
+
+        Path source = directory.resolve("ceps.csv");
+        Files.writeString(source,
+                "cep,logradouro,bairro,cidade,uf\n" +
+                "01310100,\"Avenida Paulista, lado par\",Bela Vista,São Paulo,SP\n" +
+                "01310200,\"Avenida Paulista, \"\"lado ímpar\"\"\",Bela Vista,São Paulo,SP\n",
+                StandardCharsets.UTF_8);
+        Path target = directory.resolve("cep-dataset.bin");
+
+        CepDatasetCompiler.compile(source, target, ',');
+        CepDataset dataset = CepDataset.open(target);
+
+        assertThat(dataset.find("01310100").getLogradouro()).isEqualTo("Avenida Paulista, lado par");
+        assertThat(dataset.find("01310100").getBairro()).isEqualTo("Bela Vista");
+        assertThat(dataset.find("01310200").getLogradouro()).isEqualTo("Avenida Paulista, \"lado ímpar\"");
+        assertThat(dataset.find("01310200").getEstado()).isEqualTo("SP");
+    }
+
+    @Test
+    @DisplayName("Should cut values longer than the pool limit at a whole character")
+    void shouldTruncateLongValuesAtCharacterBoundary(@TempDir Path directory) throws IOException {
+
+        String longStreet = "é".repeat(40_000);
+        Path source = directory.resolve("ceps.csv");
+        Files.writeString(source,
+                "cep;logradouro;bairro;cidade;uf\n" +
+                "01001000;" + longStreet + ";Sé;São Paulo;SP\n",
+                StandardCharsets.UTF_8);
+        Path target = directory.resolve("cep-dataset.bin");
+
+        CepDatasetCompiler.compile(source, target, ';');
+        String stored = CepDataset.open(target).find("01001000").getLogradouro();
+
+        assertThat(stored).hasSize(0xFFFF / 2).isEqualTo(longStreet.substring(0, 0xFFFF / 2));
+        assertThat(stored).doesNotContain("\uFFFD");
+    }
+}
@@ -0,0 +1,64 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.victorxavier.contactbook.domain.service.AddressService;
+import com.victorxavier.contactbook.infrastructure.cache.CepExistenceIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AddressBatchResolver Tests")
+class AddressBatchResolverTest {
+
+    @Mock
+    private AddressService addressService;
+
+    @Mock
+    private CepExistenceIndex existenceIndex;
+
+    @Test
+    @DisplayName("Should stop waiting for permits and fail the remaining CEPs when interrupted")
+    void shouldFailRemainingCepsWhenInterrupted() throws Exception {
+        AddressBatchResolver resolver = new AddressBatchResolver(addressService, existenceIndex);
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        when(addressService.getAddressByCep(anyString(), any())).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            return null;
+        });
+
+        AtomicReference<Map<String, AddressBatchResolver.Resolution>> result = new AtomicReference<>();
+        AtomicBoolean interruptKept = new AtomicBoolean();
+        Thread caller = Thread.ofPlatform().start(() -> {
+            result.set(resolver.resolveAll(List.of("01001000", "20040020", "30130010"),
+                    AddressService.LookupPriority.BULK, 1));
+            interruptKept.set(Thread.currentThread().isInterrupted());
+        });
+
+        assertThat(lookupStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        caller.interrupt();
+        caller.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(interruptKept).isTrue();
+        assertThat(result.get()).hasSize(3);
+        assertThat(result.get().values())
+                .allSatisfy(resolution -> assertThat(resolution.outcome())
+                        .isEqualTo(AddressBatchResolver.Resolution.Outcome.FAILED));
+        verify(addressService, times(1)).getAddressByCep(anyString(), any());
+    }
+}
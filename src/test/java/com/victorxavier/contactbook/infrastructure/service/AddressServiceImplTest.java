@@ -0,0 +1,188 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.victorxavier.contactbook.domain.entity.CepAddress;
+import com.victorxavier.contactbook.domain.repository.CepAddressRepository;
+import com.victorxavier.contactbook.domain.service.AddressService;
+import com.victorxavier.contactbook.infrastructure.cache.CepAddressCache;
+import com.victorxavier.contactbook.infrastructure.cache.CepExistenceIndex;
+import com.victorxavier.contactbook.infrastructure.client.ViaCepClient;
+import com.victorxavier.contactbook.infrastructure.client.ViaCepGateway;
+import com.victorxavier.contactbook.infrastructure.client.ViaCepRateLimitProperties;
+import com.victorxavier.contactbook.infrastructure.client.ViaCepResilienceProperties;
+import com.victorxavier.contactbook.infrastructure.client.response.AddressResponse;
+import com.victorxavier.contactbook.infrastructure.exception.AddressNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AddressService Tests")
+class AddressServiceImplTest {
+
+    @Mock
+    private ViaCepClient viaCepClient;
+
+    @Mock
+    private CepAddressRepository cepAddressRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CepExistenceIndex existenceIndex;
+    private AddressServiceImpl addressService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CepAddressCache cache = new CepAddressCache(meterRegistry, 100, Duration.ofHours(1), Duration.ofMinutes(5));
+        ViaCepGateway gateway = new ViaCepGateway(viaCepClient, new ViaCepResilienceProperties(),
+                new ViaCepRateLimitProperties(), meterRegistry);
+        existenceIndex = new CepExistenceIndex(meterRegistry, true);
+        addressService = new AddressServiceImpl(gateway, cache, existenceIndex, cepAddressRepository, meterRegistry,
+                Duration.ofDays(30), true);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups of the same CEP from cache")
+    void shouldServeRepeatedLookupsFromCache() {
+
+        when(viaCepClient.getAddress("01001000")).thenReturn(viaCepResponse());
+
+        AddressService.AddressInfo first = addressService.getAddressByCep("01001-000");
+        AddressService.AddressInfo second = addressService.getAddressByCep("01001000");
+
+        assertThat(first.getLogradouro()).isEqualTo("Praça da Sé");
+        assertThat(second.getCidade()).isEqualTo("São Paulo");
+        verify(viaCepClient, times(1)).getAddress("01001000");
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should use fresh stored address without calling ViaCEP")
+    void shouldUseFreshStoredAddress() {
+
+        CepAddress stored = new CepAddress("01001000",
+                new AddressService.AddressInfo("Praça da Sé", "Sé", "São Paulo", "SP"), Instant.now());
+        when(cepAddressRepository.findByCep("01001000")).thenReturn(Optional.of(stored));
+
+        AddressService.AddressInfo result = addressService.getAddressByCep("01001000");
+
+        assertThat(result.getLogradouro()).isEqualTo("Praça da Sé");
+        verifyNoInteractions(viaCepClient);
+    }
+
+    @Test
+    @DisplayName("Should cache CEPs that were not found")
+    void shouldCacheNotFoundCeps() {
+
+        AddressResponse notFound = new AddressResponse();
+        notFound.setErro(true);
+        when(viaCepClient.getAddress("99999999")).thenReturn(notFound);
+
+        assertThrows(AddressNotFoundException.class, () -> addressService.getAddressByCep("99999999"));
+        assertThrows(AddressNotFoundException.class, () -> addressService.getAddressByCep("99999999"));
+
+        verify(viaCepClient, times(1)).getAddress("99999999");
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent lookups of the same CEP into one ViaCEP call")
+    void shouldCoalesceConcurrentLookups() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(viaCepClient.getAddress("01001000")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return viaCepResponse();
+        });
+
+        CompletableFuture<AddressService.AddressInfo> leader =
+                CompletableFuture.supplyAsync(() -> addressService.getAddressByCep("01001000"));
+        CompletableFuture<AddressService.AddressInfo> follower =
+                CompletableFuture.supplyAsync(() -> addressService.getAddressByCep("01001-000"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("cep.lookup.coalesced").counter().count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS).getLogradouro()).isEqualTo("Praça da Sé");
+        assertThat(follower.get(5, TimeUnit.SECONDS).getLogradouro()).isEqualTo("Praça da Sé");
+        verify(viaCepClient, times(1)).getAddress("01001000");
+        assertThat(meterRegistry.get("cep.lookup.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to stale stored address, then pending, when ViaCEP fails")
+    void shouldFallBackWhenViaCepFails() {
+
+        CepAddress stale = new CepAddress("01001000",
+                new AddressService.AddressInfo("Praça da Sé", "Sé", "São Paulo", "SP"),
+                Instant.now().minus(Duration.ofDays(90)));
+        when(cepAddressRepository.findByCep("01001000")).thenReturn(Optional.of(stale));
+        when(viaCepClient.getAddress(anyString())).thenThrow(new IllegalStateException("connection reset"));
+
+        AddressService.AddressInfo staleResult = addressService.getAddressByCep("01001000");
+        AddressService.AddressInfo pendingResult = addressService.getAddressByCep("20040002");
+
+        assertThat(staleResult.getLogradouro()).isEqualTo("Praça da Sé");
+        assertThat(staleResult.isPending()).isFalse();
+        assertThat(pendingResult.isPending()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject CEPs known not to exist without any lookup")
+    void shouldRejectKnownMissingCep() {
+
+        existenceIndex.markMissing("99999999");
+
+        assertThrows(AddressNotFoundException.class, () -> addressService.getAddressByCep("99999-999"));
+
+        verifyNoInteractions(viaCepClient, cepAddressRepository);
+        assertThat(meterRegistry.get("cep.lookup.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should only report CEPs outside an authoritative source as missing")
+    void shouldTreatAuthoritativeSourceAsComplete() {
+
+        existenceIndex.load(consumer -> consumer.accept(1001000), true);
+
+        assertThat(existenceIndex.isKnownMissing("01001000")).isFalse();
+        assertThat(existenceIndex.isKnownMissing("01001001")).isTrue();
+        assertThat(existenceIndex.isKnownMissing("123")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed CEP without calling ViaCEP")
+    void shouldRejectMalformedCep() {
+
+        assertThrows(IllegalArgumentException.class, () -> addressService.getAddressByCep("123"));
+
+        verifyNoInteractions(viaCepClient);
+    }
+
+    private AddressResponse viaCepResponse() {
+        AddressResponse response = new AddressResponse();
+        response.setCep("01001-000");
+        response.setLogradouro("Praça da Sé");
+        response.setBairro("Sé");
+        response.setCidade("São Paulo");
+        response.setEstado("SP");
+        return response;
+    }
+}
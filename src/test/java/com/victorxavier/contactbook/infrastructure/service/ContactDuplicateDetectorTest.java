@@ -0,0 +1,125 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import com.victorxavier.contactbook.application.port.in.ImportOptions;
+import com.victorxavier.contactbook.application.port.in.ImportProgress;
+import com.victorxavier.contactbook.domain.entity.Contact;
+import com.victorxavier.contactbook.domain.repository.ContactRepository;
+import com.victorxavier.contactbook.infrastructure.persistence.TransactionRunner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContactDuplicateDetector Tests")
+class ContactDuplicateDetectorTest {
+
+    private static final Map<String, Long> STORED = Map.of("11911111111", 7L, "0800123", 8L);
+
+    @Mock
+    private ContactRepository contactRepository;
+
+    private ContactDuplicateDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new ContactDuplicateDetector(contactRepository,
+                new TransactionRunner(mock(PlatformTransactionManager.class), new SimpleMeterRegistry()));
+        lenient().when(contactRepository.count()).thenReturn((long) STORED.size());
+        lenient().when(contactRepository.streamPhones()).thenReturn(Stream.of("(11) 91111-1111", "0800 123"));
+        lenient().when(contactRepository.findIdsByNormalizedPhone(anyCollection())).thenAnswer(invocation -> {
+            Map<String, Long> found = new HashMap<>();
+            for (String phone : invocation.<Collection<String>>getArgument(0)) {
+                if (STORED.containsKey(phone)) {
+                    found.put(phone, STORED.get(phone));
+                }
+            }
+            return found;
+        });
+    }
+
+    @Test
+    @DisplayName("Should skip stored and repeated phones, keeping phones without digits")
+    void shouldSkipStoredAndRepeatedPhones() {
+
+        ImportProgress progress = new ImportProgress();
+        ContactDuplicateDetector.Session session = detector.open(ImportOptions.DuplicateMode.SKIP);
+
+        List<Contact> first = session.filter(List.of(
+                contact("Ana", "11911111111"),
+                contact("Bia", "11922222222"),
+                contact("Bia", "(11) 92222-2222"),
+                contact("Sem telefone", ""),
+                contact("Sem dígitos", "n/a")), progress);
+        List<Contact> second = session.filter(List.of(
+                contact("Bia", "11 92222 2222"),
+                contact("Caio", "800123"),
+                contact("Central", "0800-123"),
+                contact("Sem dígitos", "n/a")), progress);
+
+        assertThat(first).extracting(Contact::getName).containsExactly("Bia", "Sem telefone", "Sem dígitos");
+        assertThat(second).extracting(Contact::getName).containsExactly("Caio", "Sem dígitos");
+        assertThat(second).allMatch(contact -> contact.getId() == null);
+        assertThat(progress.getDuplicatesSkipped()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should give stored phones their contact ID when upserting and still drop in-file repeats")
+    void shouldAssignStoredIdsWhenUpserting() {
+
+        ImportProgress progress = new ImportProgress();
+        ContactDuplicateDetector.Session session = detector.open(ImportOptions.DuplicateMode.UPSERT);
+
+        List<Contact> kept = session.filter(List.of(
+                contact("Ana", "(11) 91111-1111"),
+                contact("Ana de novo", "11911111111"),
+                contact("Central", "0800123"),
+                contact("Bia", "11922222222")), progress);
+
+        assertThat(kept).extracting(Contact::getName).containsExactly("Ana", "Central", "Bia");
+        assertThat(kept).extracting(Contact::getId).containsExactly(7L, 8L, null);
+        assertThat(progress.getDuplicatesSkipped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should open no session when duplicates are inserted")
+    void shouldNotCheckWhenInserting() {
+
+        assertThat(detector.open(ImportOptions.DuplicateMode.INSERT)).isNull();
+        verify(contactRepository, never()).streamPhones();
+    }
+
+    @Test
+    @DisplayName("Should pack phones into distinct keys, keeping leading zeros apart")
+    void shouldKeepLeadingZerosApart() {
+
+        assertThat(ContactDuplicateDetector.key("0800123")).isNotEqualTo(ContactDuplicateDetector.key("800123"));
+        assertThat(ContactDuplicateDetector.key("0")).isNotEqualTo(ContactDuplicateDetector.key("00")).isNotZero();
+        assertThat(ContactDuplicateDetector.key("12345678901234567")).isPositive();
+        assertThat(ContactDuplicateDetector.key("123456789012345678"))
+                .isNegative()
+                .isNotEqualTo(ContactDuplicateDetector.key("123456789012345679"));
+        assertThat(ContactDuplicateDetector.normalize("+55 (11) 9-1111")).isEqualTo("551191111");
+    }
+
+    private static Contact contact(String name, String phone) {
+        Contact contact = new Contact();
+        contact.setName(name);
+        contact.setPhone(phone);
+        return contact;
+    }
+}
@@ -0,0 +1,34 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.victorxavier.contactbook.domain.entity.Contact;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@DisplayName("CsvExportService Tests")
+class CsvExportServiceTest {
+
+    @Test
+    @DisplayName("Should write UTF-8 CSV quoting only fields that need it")
+    void shouldWriteQuotedCsv() throws IOException {
+
+        Contact contact = new Contact(42L, "Silva, \"João\"", "11987654321", "01001000", 123);
+        contact.setAddress("Praça da Sé", "Sé", "São Paulo", "SP");
+        Contact pending = new Contact(43L, "Ana", "11911111111", "01001000", null);
+        pending.markAddressPending();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        new CsvExportService().export(Stream.of(contact, pending), output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "name,phone,cep,numero,id,logradouro,bairro,cidade,estado,addressStatus\n" +
+                "\"Silva, \"\"João\"\"\",11987654321,01001000,123,42,Praça da Sé,Sé,São Paulo,SP,RESOLVED\n" +
+                "Ana,11911111111,01001000,,43,,,,,PENDING\n");
+    }
+}
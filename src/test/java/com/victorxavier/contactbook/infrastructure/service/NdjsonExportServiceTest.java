@@ -0,0 +1,44 @@
+package com.victorxavier.contactbook.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.victorxavier.contactbook.domain.entity.Contact;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@DisplayName("NdjsonExportService Tests")
+class NdjsonExportServiceTest {
+
+    @Test
+    @DisplayName("Should write one escaped JSON object per line")
+    void shouldWriteEscapedJsonLines() throws IOException {
+
+        Contact contact = new Contact(42L, "João \"Jo\" \\ 😀\n", "11987654321", "01001000", 123);
+        contact.setAddress("Praça da Sé", "Sé", "São Paulo", "SP");
+        Contact pending = new Contact(-7L, "Ana\u0001", "11911111111", "01001000", null);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        new NdjsonExportService().export(Stream.of(contact, pending), output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(42L);
+        assertThat(first.get("name").asText()).isEqualTo("João \"Jo\" \\ 😀\n");
+        assertThat(first.get("cidade").asText()).isEqualTo("São Paulo");
+        assertThat(first.get("numero").asInt()).isEqualTo(123);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("id").asLong()).isEqualTo(-7L);
+        assertThat(second.get("name").asText()).isEqualTo("Ana\u0001");
+        assertThat(second.get("numero").isNull()).isTrue();
+        assertThat(second.get("logradouro").isNull()).isTrue();
+    }
+}
@@ -0,0 +1,80 @@
+package com.victorxavier.contactbook.presentation.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.victorxavier.contactbook.application.dto.request.ContactRequest;
+import com.victorxavier.contactbook.application.service.ContactBatchService;
+import com.victorxavier.contactbook.application.service.ContactService;
+import com.victorxavier.contactbook.application.service.ImportJobService;
+import com.victorxavier.contactbook.infrastructure.exception.GlobalExceptionHandler;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.sql.SQLException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContactController Tests")
+class ContactControllerTest {
+
+    private static final String CONTACT_JSON =
+            "{\"name\":\"João da Silva\",\"phone\":\"11987654321\",\"cep\":\"01001000\",\"numero\":123}";
+
+    @Mock
+    private ContactService contactService;
+
+    @Mock
+    private ImportJobService importJobService;
+
+    @Mock
+    private ContactBatchService contactBatchService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ContactController(contactService, importJobService, contactBatchService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should answer 409 when the phone of a new contact is already stored")
+    void shouldReturnConflictForDuplicatePhone() throws Exception {
+
+        when(contactService.save(any(ContactRequest.class))).thenThrow(violation("ux_contact_book_tb_phone_digits"));
+
+        mockMvc.perform(post("/api/contacts").contentType(MediaType.APPLICATION_JSON).content(CONTACT_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Já existe um contato com este telefone"));
+    }
+
+    @Test
+    @DisplayName("Should answer 500 for integrity violations other than the phone index")
+    void shouldReturnInternalErrorForOtherViolations() throws Exception {
+
+        when(contactService.save(any(ContactRequest.class))).thenThrow(violation("contact_book_tb_name_not_null"));
+
+        mockMvc.perform(post("/api/contacts").contentType(MediaType.APPLICATION_JSON).content(CONTACT_JSON))
+                .andExpect(status().isInternalServerError());
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLException("violates constraint " + constraintName, "23505"), constraintName));
+    }
+}